@@ -12,7 +12,8 @@ import {
   Typography,
 } from "@mui/material";
 
-const ISSUES_API_URL = "/issues";
+// Non-completed issues, filtered by the server and read page by page
+const ISSUES_API_URL = "/issues?open=true&limit=500";
 const USERS_API_URL = "/users"; // Nueva URL para obtener usuarios
 
 function AlertForm(props) {
@@ -42,20 +43,10 @@ function AlertForm(props) {
     setIsLoading(true);
     setError(null);
 
-    fetch(ISSUES_API_URL)
-      .then((response) => {
-        if (!response.ok) {
-          throw new Error(
-            `Error en la respuesta: ${response.status} ${response.statusText}`
-          );
-        }
-        return response.json();
-      })
+    fetchIssuePages(null, [])
       .then((result) => {
         setIsLoading(false);
-        // Filter only non-completed issues
-        const pendingIssues = result.filter((issue) => !issue.done);
-        setIssues(pendingIssues);
+        setIssues(result);
       })
       .catch((error) => {
         console.error("Error cargando issues:", error);
@@ -64,6 +55,25 @@ function AlertForm(props) {
       });
   }
 
+  // Follow X-Next-Cursor until the last page, so the picker lists every open issue
+  function fetchIssuePages(cursor, loaded) {
+    const url = cursor
+      ? `${ISSUES_API_URL}&cursor=${encodeURIComponent(cursor)}`
+      : ISSUES_API_URL;
+    return fetch(url).then((response) => {
+      if (!response.ok) {
+        throw new Error(
+          `Error en la respuesta: ${response.status} ${response.statusText}`
+        );
+      }
+      const nextCursor = response.headers.get("X-Next-Cursor");
+      return response.json().then((page) => {
+        const all = [...loaded, ...page];
+        return nextCursor ? fetchIssuePages(nextCursor, all) : all;
+      });
+    });
+  }
+
   function loadUsers() {
     setIsLoadingUsers(true);
     setUserError(null);
@@ -26,33 +26,46 @@ import AlertForm from "./AlertForm";
 import Moment from "react-moment";
 
 const API_URL = "/alerts";
+const PAGE_SIZE = 100;
 
 function Alerts() {
   const [alerts, setAlerts] = useState([]);
   const [isLoading, setLoading] = useState(false);
   const [error, setError] = useState(null);
   const [isFormOpen, setIsFormOpen] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
 
   useEffect(() => {
     loadAlerts();
   }, []);
 
-  function loadAlerts() {
-    setLoading(true);
+  // Alerts of every status, one page at a time; GET /alerts alone returns only PENDING ones
+  function alertsUrl(cursor) {
+    const params = new URLSearchParams();
+    params.append("status", "ALL");
+    params.append("limit", PAGE_SIZE);
+    if (cursor) params.append("cursor", cursor);
+    return `${API_URL}?${params.toString()}`;
+  }
+
+  // First page of alerts, or the next page appended to the list when a cursor is given
+  function loadAlerts(cursor = null) {
+    if (!cursor) setLoading(true);
     setError(null);
 
-    fetch(API_URL)
+    fetch(alertsUrl(cursor))
       .then((response) => {
         if (!response.ok) {
           throw new Error(
             `Error en la respuesta: ${response.status} ${response.statusText}`
           );
         }
+        setNextCursor(response.headers.get("X-Next-Cursor"));
         return response.json();
       })
       .then((result) => {
         setLoading(false);
-        setAlerts(result);
+        setAlerts((previous) => (cursor ? [...previous, ...result] : result));
       })
       .catch((error) => {
         setLoading(false);
@@ -188,6 +201,11 @@ function Alerts() {
               )}
             </TableBody>
           </Table>
+          {nextCursor && (
+            <Box sx={{ display: "flex", justifyContent: "center", p: 2 }}>
+              <Button onClick={() => loadAlerts(nextCursor)}>Cargar más</Button>
+            </Box>
+          )}
         </TableContainer>
       )}
 
@@ -120,8 +120,19 @@ const Sprints = () => {
     fetchSprints();
   }, []);
 
-  const handleOpenDialog = (sprint = null) => {
-    setSelectedSprint(sprint);
+  // The list only has the start of each goal, so editing starts from the full sprint
+  const handleOpenDialog = async (sprint = null) => {
+    if (sprint) {
+      try {
+        const response = await fetch(`${API_URL}/${sprint.idSprint}`);
+        setSelectedSprint(await response.json());
+      } catch (error) {
+        console.error("Error fetching sprint:", error);
+        return;
+      }
+    } else {
+      setSelectedSprint(null);
+    }
     setOpenDialog(true);
   };
 
@@ -31,11 +31,19 @@ import {
 const API_URL = "/issues";
 const SPRINTS_URL = "/sprints";
 const USERS_URL = "/users";
+const PAGE_SIZE = 50;
 
 const Tasks = () => {
   const [tasks, setTasks] = useState([]);
   const [sprints, setSprints] = useState([]);
   const [users, setUsers] = useState([]);
+  // Filters are applied by the server; "open" status means not completed
+  const [filters, setFilters] = useState({
+    sprint: "",
+    assignee: "",
+    status: "",
+  });
+  const [nextCursor, setNextCursor] = useState(null);
   const [openDialog, setOpenDialog] = useState(false);
   const [editingTask, setEditingTask] = useState(null);
   const [formData, setFormData] = useState({
@@ -50,11 +58,14 @@ const Tasks = () => {
   });
 
   useEffect(() => {
-    fetchTasks();
     fetchSprints();
     fetchUsers();
   }, []);
 
+  useEffect(() => {
+    fetchTasks();
+  }, [filters]);
+
   const fetchSprints = async () => {
     try {
       const response = await fetch(SPRINTS_URL);
@@ -75,18 +86,44 @@ const Tasks = () => {
     }
   };
 
-  const fetchTasks = async () => {
+  const tasksUrl = (cursor) => {
+    const params = new URLSearchParams();
+    if (filters.sprint !== "") params.append("sprint", filters.sprint);
+    if (filters.assignee !== "") params.append("assignee", filters.assignee);
+    if (filters.status === "open") params.append("open", "true");
+    else if (filters.status !== "") params.append("status", filters.status);
+    params.append("limit", PAGE_SIZE);
+    if (cursor) params.append("cursor", cursor);
+    return `${API_URL}?${params.toString()}`;
+  };
+
+  // First page of tasks, or the next page appended to the list when a cursor is given
+  const fetchTasks = async (cursor = null) => {
     try {
-      const response = await fetch(API_URL);
+      const response = await fetch(tasksUrl(cursor));
       const data = await response.json();
-      setTasks(data);
+      setTasks((previous) => (cursor ? [...previous, ...data] : data));
+      setNextCursor(response.headers.get("X-Next-Cursor"));
     } catch (error) {
       console.error("Error fetching tasks:", error);
     }
   };
 
-  const handleOpenDialog = (task = null) => {
-    if (task) {
+  // List rows leave out the long text fields, so editing starts from the full issue
+  const fetchTaskDetails = async (taskId) => {
+    const response = await fetch(`${API_URL}/${taskId}`);
+    return response.json();
+  };
+
+  const handleOpenDialog = async (listedTask = null) => {
+    if (listedTask) {
+      let task;
+      try {
+        task = await fetchTaskDetails(listedTask.issueId);
+      } catch (error) {
+        console.error("Error fetching task:", error);
+        return;
+      }
       setEditingTask(task);
       setFormData({
         issueTitle: task.issueTitle,
@@ -165,9 +202,16 @@ const Tasks = () => {
     });
   };
 
+  const handleFilterChange = (e) => {
+    setFilters({
+      ...filters,
+      [e.target.name]: e.target.value,
+    });
+  };
+
   const handleStatusToggle = async (taskId, currentStatus) => {
     try {
-      const task = tasks.find((t) => t.issueId === taskId);
+      const task = await fetchTaskDetails(taskId);
       const updatedTask = {
         ...task,
         status: currentStatus === 0 ? 1 : 0,
@@ -202,6 +246,60 @@ const Tasks = () => {
         </Button>
       </Box>
 
+      <Box sx={{ display: "flex", gap: 2 }}>
+        <FormControl size="small" sx={{ minWidth: 180 }}>
+          <InputLabel>Sprint</InputLabel>
+          <Select
+            name="sprint"
+            value={filters.sprint}
+            onChange={handleFilterChange}
+            label="Sprint"
+          >
+            <MenuItem value="">
+              <em>All</em>
+            </MenuItem>
+            {sprints.map((sprint) => (
+              <MenuItem key={sprint.idSprint} value={sprint.idSprint}>
+                {`Sprint ${sprint.idSprint}`}
+              </MenuItem>
+            ))}
+          </Select>
+        </FormControl>
+        <FormControl size="small" sx={{ minWidth: 180 }}>
+          <InputLabel>Assignee</InputLabel>
+          <Select
+            name="assignee"
+            value={filters.assignee}
+            onChange={handleFilterChange}
+            label="Assignee"
+          >
+            <MenuItem value="">
+              <em>All</em>
+            </MenuItem>
+            {users.map((user) => (
+              <MenuItem key={user.userId} value={user.userId}>
+                {user.userName}
+              </MenuItem>
+            ))}
+          </Select>
+        </FormControl>
+        <FormControl size="small" sx={{ minWidth: 180 }}>
+          <InputLabel>Status</InputLabel>
+          <Select
+            name="status"
+            value={filters.status}
+            onChange={handleFilterChange}
+            label="Status"
+          >
+            <MenuItem value="">
+              <em>All</em>
+            </MenuItem>
+            <MenuItem value="open">Non-completed</MenuItem>
+            <MenuItem value="1">Completed</MenuItem>
+          </Select>
+        </FormControl>
+      </Box>
+
       <Paper sx={{ mt: 2 }}>
         <List>
           {tasks.map((task) => (
@@ -221,10 +319,6 @@ const Tasks = () => {
                 }
                 secondary={
                   <>
-                    <Typography component="span" variant="body2">
-                      {task.issueDescription}
-                    </Typography>
-                    <br />
                     <Typography component="span" variant="body2">
                       Due: {new Date(task.dueDate).toLocaleDateString()}
                     </Typography>
@@ -294,6 +388,11 @@ const Tasks = () => {
             </ListItem>
           ))}
         </List>
+        {nextCursor && (
+          <Box sx={{ display: "flex", justifyContent: "center", pb: 2 }}>
+            <Button onClick={() => fetchTasks(nextCursor)}>Load more</Button>
+          </Box>
+        )}
       </Paper>
 
       <Dialog
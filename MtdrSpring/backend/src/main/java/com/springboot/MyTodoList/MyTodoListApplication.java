@@ -7,31 +7,26 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
-import com.springboot.MyTodoList.controller.IssueBotController;
-import com.springboot.MyTodoList.service.IssueService;
-import com.springboot.MyTodoList.service.UserService;
+import com.springboot.MyTodoList.controller.TelegramBotHost;
 import com.springboot.MyTodoList.util.BotMessages;
 
 @SpringBootApplication
+@EnableScheduling
 public class MyTodoListApplication implements CommandLineRunner {
 
 	private static final Logger logger = LoggerFactory.getLogger(MyTodoListApplication.class);
 
 	@Autowired
-	private IssueService issueService;
+	private TelegramBotHost telegramBotHost;
 
-	@Autowired
-	private UserService userService;
-
-	@Value("${telegram.bot.token}")
-	private String telegramBotToken;
-
-	@Value("${telegram.bot.name}")
-	private String botName;
+	// polling: this process runs the getUpdates loop; webhook: Telegram posts updates to TelegramWebhookController
+	@Value("${telegram.bot.mode:polling}")
+	private String botMode;
 
 	public static void main(String[] args) {
 		SpringApplication.run(MyTodoListApplication.class, args);
@@ -39,9 +34,13 @@ public class MyTodoListApplication implements CommandLineRunner {
 
 	@Override
 	public void run(String... args) throws Exception {
+		if (!"polling".equals(botMode)) {
+			logger.info("Telegram bot in " + botMode + " mode, long polling not started");
+			return;
+		}
 		try {
 			TelegramBotsApi telegramBotsApi = new TelegramBotsApi(DefaultBotSession.class);
-			telegramBotsApi.registerBot(new IssueBotController(telegramBotToken, botName, issueService, userService));
+			telegramBotsApi.registerBot(telegramBotHost);
 			logger.info(BotMessages.BOT_REGISTERED_STARTED.getMessage());
 		} catch (TelegramApiException e) {
 			e.printStackTrace();
@@ -0,0 +1,42 @@
+package com.springboot.MyTodoList.config;
+
+import com.springboot.MyTodoList.controller.BotModule;
+import com.springboot.MyTodoList.controller.TelegramBotHost;
+import com.springboot.MyTodoList.service.BotUpdateExecutor;
+import com.springboot.MyTodoList.service.ChatSessionStore;
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+
+import java.util.List;
+
+/*
+    Creates the bot as a bean so the long polling session and the webhook
+    endpoint feed the same command handlers. Every BotModule bean is plugged
+    into it. The Bot API base URL is configurable so the bot can be pointed
+    at a stand-in server.
+ */
+@Configuration
+public class TelegramBotConfig {
+
+    @Value("${telegram.bot.token}")
+    private String botToken;
+
+    @Value("${telegram.bot.name}")
+    private String botName;
+
+    @Value("${telegram.api.base-url:https://api.telegram.org}")
+    private String apiBaseUrl;
+
+    @Bean
+    public TelegramBotHost telegramBotHost(List<BotModule> modules, BotUpdateExecutor botUpdateExecutor,
+                                           TelegramDeliveryService telegramDeliveryService,
+                                           ChatSessionStore chatSessionStore) {
+        DefaultBotOptions options = new DefaultBotOptions();
+        options.setBaseUrl(apiBaseUrl + "/bot");
+        return new TelegramBotHost(options, botToken, botName, modules, botUpdateExecutor,
+                telegramDeliveryService, chatSessionStore);
+    }
+}
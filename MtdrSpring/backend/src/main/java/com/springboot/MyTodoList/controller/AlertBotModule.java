@@ -0,0 +1,153 @@
+package com.springboot.MyTodoList.controller;
+
+import com.springboot.MyTodoList.model.Alert;
+import com.springboot.MyTodoList.model.User;
+import com.springboot.MyTodoList.service.AlertService;
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+import com.springboot.MyTodoList.service.UserService;
+import com.springboot.MyTodoList.util.BotCommandArgs;
+import com.springboot.MyTodoList.util.BotCommandRouter;
+import com.springboot.MyTodoList.util.BotCommands;
+import com.springboot.MyTodoList.util.BotHelper;
+import com.springboot.MyTodoList.util.BotLabels;
+import com.springboot.MyTodoList.util.ChatSession;
+import com.springboot.MyTodoList.util.MessageChunker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/*
+    Alerts of the Telegram user: the upcoming ones still to be sent, and
+    dismissing one so it is not sent.
+ */
+@Component
+public class AlertBotModule implements BotModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertBotModule.class);
+    private static final int ALERTS_SHOWN = 20;
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TelegramDeliveryService deliveryService;
+
+    @Override
+    public void addRoutes(BotCommandRouter router) {
+        router.on(BotLabels.MY_ALERTS, this::showUpcomingAlerts)
+                .onCommand(BotCommands.DISMISS, this::dismissAlert);
+    }
+
+    @Override
+    public List<KeyboardRow> mainScreenRows() {
+        KeyboardRow row = new KeyboardRow();
+        row.add(BotLabels.MY_ALERTS.getLabel());
+        return Collections.singletonList(row);
+    }
+
+    @Override
+    public String help() {
+        return BotLabels.MY_ALERTS.getLabel() + " - View your upcoming alerts\n" +
+                BotCommands.DISMISS.getCommand() + " <alert_id> - Do not send an upcoming alert";
+    }
+
+    @Override
+    public boolean continueFlow(BotCommandArgs args, ChatSession session) {
+        return false;
+    }
+
+    @Override
+    public boolean answerInlineQuery(InlineQuery query) {
+        return false;
+    }
+
+    private void showUpcomingAlerts(BotCommandArgs args) {
+        long chatId = args.getChatId();
+        User user = userService.findByTelegramId(senderId(args));
+        if (user == null) {
+            sendMessage(chatId, "User not found. Please contact your administrator.");
+            return;
+        }
+
+        List<Alert> alerts = alertService.searchAlerts(String.valueOf(user.getUserId()), null, "PENDING", null,
+                OffsetDateTime.now(), null, null, ALERTS_SHOWN);
+        if (alerts.isEmpty()) {
+            sendMessage(chatId, "You don't have any upcoming alerts.");
+            return;
+        }
+
+        MessageChunker messages = new MessageChunker().append("Your upcoming alerts:\n\n");
+        for (Alert alert : alerts) {
+            messages.append("ID: " + alert.getId() +
+                    "\n[" + alert.getPriority() + "] " + alert.getTask() +
+                    "\n" + alert.getMessage() +
+                    "\nScheduled: " + alert.getScheduledTime() +
+                    "\n\n");
+        }
+        messages.append("To dismiss one, use the command:\n" + BotCommands.DISMISS.getCommand() + " <alert_id>");
+        for (String message : messages.finish()) {
+            sendMessage(chatId, message);
+        }
+    }
+
+    private void dismissAlert(BotCommandArgs args) {
+        long chatId = args.getChatId();
+        long alertId;
+        try {
+            alertId = args.nextLong();
+        } catch (NumberFormatException e) {
+            sendMessage(chatId, "Invalid format. Use: " + BotCommands.DISMISS.getCommand() + " <alert_id>");
+            return;
+        }
+
+        User user = userService.findByTelegramId(senderId(args));
+        if (user == null) {
+            sendMessage(chatId, "User not found. Please contact your administrator.");
+            return;
+        }
+
+        // Alerts of other users look the same as missing ones
+        Optional<Alert> alert = alertService.getAlertById(alertId)
+                .filter(found -> String.valueOf(user.getUserId()).equals(found.getUserId()));
+        if (!alert.isPresent()) {
+            sendMessage(chatId, "Alert not found.");
+            return;
+        }
+        if (!"PENDING".equals(alert.get().getStatus()) && !"FAILED".equals(alert.get().getStatus())) {
+            sendMessage(chatId, "Alert #" + alertId + " is already " + alert.get().getStatus() + ".");
+            return;
+        }
+
+        try {
+            alertService.updateAlertStatus(alertId, "CANCELLED");
+            sendMessage(chatId, "Alert #" + alertId + " dismissed.");
+        } catch (Exception e) {
+            logger.error("Error dismissing alert " + alertId + ": " + e.getMessage(), e);
+            sendMessage(chatId, "Error dismissing alert: " + e.getMessage());
+        }
+    }
+
+    private static long senderId(BotCommandArgs args) {
+        return args.getUpdate().getMessage().getFrom().getId();
+    }
+
+    private void sendMessage(long chatId, String textToSend) {
+        SendMessage message = SendMessage.builder()
+                .chatId(String.valueOf(chatId))
+                .text(textToSend)
+                .build();
+        BotHelper.send(message, deliveryService);
+    }
+}
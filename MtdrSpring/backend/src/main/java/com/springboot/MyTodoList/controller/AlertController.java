@@ -1,47 +1,100 @@
 package com.springboot.MyTodoList.controller;
 
 import com.springboot.MyTodoList.model.Alert;
+import com.springboot.MyTodoList.model.ArchivedAlert;
 import com.springboot.MyTodoList.service.AlertService;
+import com.springboot.MyTodoList.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/alerts") // Define the base URL for Alert-related endpoints
 public class AlertController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private AlertService alertService;
 
-    // Get all alerts
+    // Get alerts matching the given filters, one page at a time in scheduled time order.
+    // Only PENDING alerts are returned unless another status (or ALL) is asked for.
+    // When there are more rows, the X-Next-Cursor header holds the cursor of the next page.
     @GetMapping
-    public List<Alert> getAllAlerts() {
-        return alertService.getAlertsByStatus("PENDING"); // Defaulting to PENDING for simplicity
+    public ResponseEntity<List<Alert>> getAlerts(@RequestParam(required = false) String userId,
+                                                 @RequestParam(required = false) String priority,
+                                                 @RequestParam(defaultValue = "PENDING") String status,
+                                                 @RequestParam(required = false) Long taskId,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Alert> alerts;
+        try {
+            alerts = alertService.searchAlerts(userId, priority, "ALL".equalsIgnoreCase(status) ? null : status, taskId,
+                    from, to, cursor == null ? null : KeysetCursor.decode(cursor), pageSize);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return page(alerts, pageSize, AlertService::cursorAfter);
+    }
+
+    // Get SENT and CANCELLED alerts that were moved to the archive, with the same filters and paging as GET /alerts
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchivedAlert>> getArchivedAlerts(@RequestParam(required = false) String userId,
+                                                                 @RequestParam(required = false) String priority,
+                                                                 @RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) Long taskId,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<ArchivedAlert> alerts;
+        try {
+            alerts = alertService.searchArchivedAlerts(userId, priority, status, taskId,
+                    from, to, cursor == null ? null : KeysetCursor.decode(cursor), pageSize);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        return page(alerts, pageSize, AlertService::cursorAfter);
+    }
+
+    // A full page may have more rows after it: hand out the cursor of the next one
+    private <T> ResponseEntity<List<T>> page(List<T> rows, int pageSize, Function<T, KeysetCursor> cursorAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (rows.size() == pageSize) {
+            headers.set(NEXT_CURSOR_HEADER, cursorAfter.apply(rows.get(rows.size() - 1)).encode());
+            headers.set("Access-Control-Expose-Headers", NEXT_CURSOR_HEADER);
+        }
+        return new ResponseEntity<>(rows, headers, HttpStatus.OK);
     }
 
     // Get a specific alert by ID
     @GetMapping("/{id}")
     public ResponseEntity<Alert> getAlertById(@PathVariable Long id) {
-        try {
-            Alert alert = alertService.getAlertsByStatus("PENDING").stream()
-                    .filter(a -> a.getId().equals(id))
-                    .findFirst()
-                    .orElseThrow(() -> new Exception("Alert not found"));
-            return new ResponseEntity<>(alert, HttpStatus.OK);
-        } catch (Exception e) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-        }
+        return alertService.getAlertById(id)
+                .map(alert -> new ResponseEntity<>(alert, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
     @PostMapping
-public ResponseEntity<Alert> addAlert(@RequestBody Alert alert) {
+public ResponseEntity<Alert> addAlert(@RequestBody Alert alert,
+                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
     try {
-        // Guardar la alerta en la BD
+        // Guardar la alerta en la BD. AlertDispatcher la envía a Telegram a su hora programada
+        // (en menos de un segundo si ya venció), una sola vez.
         Alert createdAlert = alertService.createAlert(
             alert.getMessage(), 
             alert.getTaskId(),
@@ -49,12 +102,10 @@ public ResponseEntity<Alert> addAlert(@RequestBody Alert alert) {
             alert.getProjectId(),
             alert.getUserId(),
             alert.getPriority(),
-            alert.getScheduledTime()
+            alert.getScheduledTime(),
+            idempotencyKey != null ? idempotencyKey : alert.getIdempotencyKey()
         );
 
-        // Enviar notificación a Telegram
-        alertService.sendNotification(createdAlert);
-
         // Retornar la alerta creada en la respuesta para que el frontend la reciba correctamente
         return ResponseEntity.status(HttpStatus.CREATED).body(createdAlert);
     } catch (Exception e) {
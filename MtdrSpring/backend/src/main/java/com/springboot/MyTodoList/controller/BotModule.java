@@ -0,0 +1,34 @@
+package com.springboot.MyTodoList.controller;
+
+import com.springboot.MyTodoList.util.BotCommandArgs;
+import com.springboot.MyTodoList.util.BotCommandRouter;
+import com.springboot.MyTodoList.util.ChatSession;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import java.util.List;
+
+/*
+    One feature area of the Telegram bot (todos, issues, alerts). The
+    TelegramBotHost owns the update stream and the outbound client; modules
+    only add their routes to the host's router and their buttons and help
+    to the main screen.
+ */
+public interface BotModule {
+
+    // Add this module's commands, buttons and item actions to the shared router
+    void addRoutes(BotCommandRouter router);
+
+    // Rows of this module on the main screen keyboard
+    List<KeyboardRow> mainScreenRows();
+
+    // Lines describing this module's commands, shown on the main screen
+    String help();
+
+    // Text that matched no route. Returns true if the module took it, e.g. as the answer to
+    // a step of one of its flows; session is null when the chat has no active flow.
+    boolean continueFlow(BotCommandArgs args, ChatSession session) throws Exception;
+
+    // "@bot ..." typed in any chat. Returns true if the module answered it.
+    boolean answerInlineQuery(InlineQuery query);
+}
@@ -0,0 +1,170 @@
+package com.springboot.MyTodoList.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Stand-in for the Telegram Bot API, for running the bots locally and in
+    tests without a real bot. Enable the fake-telegram profile and set
+    telegram.api.base-url=http://localhost:8080/fake-telegram.
+
+    Every Bot API call is recorded and answered with a plausible result.
+    Updates posted to /fake-telegram/updates are handed to the bot the way
+    Telegram would: pushed to the registered webhook, or returned from
+    getUpdates when the bot is polling.
+ */
+@RestController
+@Profile("fake-telegram")
+@RequestMapping("/fake-telegram")
+public class FakeTelegramApiController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FakeTelegramApiController.class);
+    private static final int MAX_RECORDED_CALLS = 1000;
+
+    private final Deque<Map<String, Object>> calls = new ArrayDeque<>();
+    private final LinkedBlockingQueue<Map<String, Object>> updates = new LinkedBlockingQueue<>();
+    private final AtomicLong updateIds = new AtomicLong();
+    private final AtomicLong messageIds = new AtomicLong();
+    private final RestTemplate restTemplate = new RestTemplate();
+    private volatile String webhookUrl;
+    private volatile String webhookSecret;
+
+    // Bot API call sent as JSON
+    @PostMapping(value = "/bot{token}/{method}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Map<String, Object> callJson(@PathVariable String method, @RequestBody(required = false) Map<String, Object> params) {
+        return call(method, params == null ? new HashMap<>() : params);
+    }
+
+    // Bot API call sent as a form or multipart request
+    @PostMapping("/bot{token}/{method}")
+    public Map<String, Object> callForm(@PathVariable String method, @RequestParam Map<String, String> params) {
+        return call(method, new HashMap<>(params));
+    }
+
+    // Calls received so far, oldest first
+    @GetMapping("/calls")
+    public synchronized List<Map<String, Object>> getCalls() {
+        return new ArrayList<>(calls);
+    }
+
+    @DeleteMapping("/calls")
+    public synchronized void clearCalls() {
+        calls.clear();
+    }
+
+    // Deliver an update to the bot, e.g. {"message": {"message_id": 1, "date": 0, "text": "/start",
+    // "chat": {"id": 42, "type": "private"}, "from": {"id": 42, "is_bot": false, "first_name": "Test"}}}
+    @PostMapping("/updates")
+    public Map<String, Object> pushUpdate(@RequestBody Map<String, Object> update) {
+        update.putIfAbsent("update_id", updateIds.incrementAndGet());
+        String url = webhookUrl;
+        if (url == null) {
+            updates.add(update);
+            return update;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (webhookSecret != null) {
+            headers.set("X-Telegram-Bot-Api-Secret-Token", webhookSecret);
+        }
+        restTemplate.postForEntity(url, new HttpEntity<>(update, headers), Void.class);
+        return update;
+    }
+
+    private Map<String, Object> call(String method, Map<String, Object> params) {
+        record(method, params);
+        Object result;
+        switch (method) {
+            case "getMe":
+                result = user(1L, true, "fake_bot");
+                break;
+            case "getUpdates":
+                result = pollUpdates(params);
+                break;
+            case "setWebhook":
+                webhookUrl = (String) params.get("url");
+                webhookSecret = (String) params.get("secret_token");
+                logger.info("Fake Telegram webhook set to " + webhookUrl);
+                result = true;
+                break;
+            case "deleteWebhook":
+                webhookUrl = null;
+                webhookSecret = null;
+                result = true;
+                break;
+            case "sendMessage":
+            case "editMessageText":
+                result = message(params);
+                break;
+            default:
+                result = true;
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("ok", true);
+        response.put("result", result);
+        return response;
+    }
+
+    private synchronized void record(String method, Map<String, Object> params) {
+        Map<String, Object> call = new HashMap<>(params);
+        call.put("method", method);
+        calls.addLast(call);
+        if (calls.size() > MAX_RECORDED_CALLS) {
+            calls.removeFirst();
+        }
+    }
+
+    // Long poll like Telegram: wait up to the requested timeout for the first update
+    private List<Map<String, Object>> pollUpdates(Map<String, Object> params) {
+        List<Map<String, Object>> batch = new ArrayList<>();
+        try {
+            long timeout = Math.min(Long.parseLong(String.valueOf(params.getOrDefault("timeout", "0"))), 30);
+            Map<String, Object> first = updates.poll(Math.max(timeout, 1), TimeUnit.SECONDS);
+            if (first != null) {
+                batch.add(first);
+                updates.drainTo(batch, 99);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return batch;
+    }
+
+    private Map<String, Object> message(Map<String, Object> params) {
+        Map<String, Object> chat = new HashMap<>();
+        chat.put("id", Long.parseLong(String.valueOf(params.get("chat_id"))));
+        chat.put("type", "private");
+        Map<String, Object> message = new HashMap<>();
+        message.put("message_id", messageIds.incrementAndGet());
+        message.put("date", System.currentTimeMillis() / 1000);
+        message.put("chat", chat);
+        message.put("from", user(1L, true, "fake_bot"));
+        message.put("text", params.get("text"));
+        return message;
+    }
+
+    private static Map<String, Object> user(long id, boolean bot, String username) {
+        Map<String, Object> user = new HashMap<>();
+        user.put("id", id);
+        user.put("is_bot", bot);
+        user.put("first_name", username);
+        user.put("username", username);
+        return user;
+    }
+}
@@ -0,0 +1,296 @@
+package com.springboot.MyTodoList.controller;
+
+import com.springboot.MyTodoList.dto.IssueSummary;
+import com.springboot.MyTodoList.dto.IssueTitle;
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.model.User;
+import com.springboot.MyTodoList.service.ChatSessionStore;
+import com.springboot.MyTodoList.service.IssueService;
+import com.springboot.MyTodoList.service.IssueTitleIndex;
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+import com.springboot.MyTodoList.service.UserService;
+import com.springboot.MyTodoList.util.BotCommandArgs;
+import com.springboot.MyTodoList.util.BotCommandRouter;
+import com.springboot.MyTodoList.util.BotCommands;
+import com.springboot.MyTodoList.util.BotHelper;
+import com.springboot.MyTodoList.util.BotLabels;
+import com.springboot.MyTodoList.util.ChatSession;
+import com.springboot.MyTodoList.util.LruCache;
+import com.springboot.MyTodoList.util.MessageChunker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.inputmessagecontent.InputTextMessageContent;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResult;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.result.InlineQueryResultArticle;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+    Issues assigned to the Telegram user: the open ones by due date, in
+    pages, and completing one with the hours worked and optional notes,
+    either on one line or step by step.
+ */
+@Component
+public class IssueBotModule implements BotModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueBotModule.class);
+    private static final int ISSUES_PER_PAGE = 50;
+    private static final int INLINE_RESULTS = 20;
+    // Seconds Telegram may reuse an inline answer for the same user and text
+    private static final int INLINE_CACHE_SECONDS = 10;
+    private static final String COMPLETE_FLOW = "COMPLETE_ISSUE";
+    private static final String ISSUE_ID_STEP = "ISSUE_ID";
+    private static final String HOURS_STEP = "HOURS";
+    private static final String NOTES_STEP = "NOTES";
+    private static final String NO_NOTES = "-";
+    private static final String COMPLETE_FORMAT = "/complete <issue_id> <hours> [notes]\nExample: /complete 123 4 Fixed the login";
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private IssueTitleIndex issueTitleIndex;
+
+    @Autowired
+    private TelegramDeliveryService deliveryService;
+
+    @Autowired
+    private ChatSessionStore sessionStore;
+
+    // Last issue shown to each chat that has more to see
+    private final LruCache<Long, IssueSummary> issueCursors = new LruCache<>(10000);
+
+    @Override
+    public void addRoutes(BotCommandRouter router) {
+        router.on(BotLabels.MY_ASSIGNED_ISSUES, args -> showAssignedIssues(args.getChatId(), senderId(args)))
+                .on(BotLabels.MORE_ASSIGNED_ISSUES, args -> showMoreAssignedIssues(args.getChatId(), senderId(args)))
+                .onCommand(BotLabels.COMPLETE_ISSUE, this::handleIssueCompletion)
+                .onCommand(BotCommands.COMPLETE, this::handleIssueCompletion);
+    }
+
+    @Override
+    public List<KeyboardRow> mainScreenRows() {
+        KeyboardRow row = new KeyboardRow();
+        row.add(BotLabels.MY_ASSIGNED_ISSUES.getLabel());
+        row.add(BotLabels.COMPLETE_ISSUE.getLabel());
+        return Collections.singletonList(row);
+    }
+
+    @Override
+    public String help() {
+        return BotLabels.MY_ASSIGNED_ISSUES.getLabel() + " - View your assigned issues\n" +
+                BotLabels.MORE_ASSIGNED_ISSUES.getLabel() + " - Show more of your assigned issues\n" +
+                BotLabels.COMPLETE_ISSUE.getLabel() + " - Complete an issue step by step\n" +
+                "@<bot> <words of the title> - Find one of your open issues to complete\n" +
+                "/complete <issue_id> <hours> [notes] - Complete a specific issue with hours worked";
+    }
+
+    private static long senderId(BotCommandArgs args) {
+        return args.getUpdate().getMessage().getFrom().getId();
+    }
+
+    // First page of the user's open issues, by due date
+    private void showAssignedIssues(long chatId, long telegramId) {
+        issueCursors.remove(chatId);
+        showOpenIssues(chatId, telegramId, "Your active assigned issues:\n\n");
+    }
+
+    // Next page after the last issue shown in this chat
+    private void showMoreAssignedIssues(long chatId, long telegramId) {
+        if (issueCursors.get(chatId) == null) {
+            sendMessage(chatId, "No more issues. Use " + BotLabels.MY_ASSIGNED_ISSUES.getLabel() + " to list them again.");
+            return;
+        }
+        showOpenIssues(chatId, telegramId, "More of your active assigned issues:\n\n");
+    }
+
+    private void showOpenIssues(long chatId, long telegramId, String header) {
+        User user = userService.findByTelegramId(telegramId);
+        if (user == null) {
+            sendMessage(chatId, "User not found. Please contact your administrator.");
+            return;
+        }
+
+        Slice<IssueSummary> page = issueService.getOpenIssueSummaries(user.getUserId(), issueCursors.get(chatId), ISSUES_PER_PAGE);
+        if (!page.hasContent()) {
+            issueCursors.remove(chatId);
+            sendMessage(chatId, "You don't have any active assigned issues.");
+            return;
+        }
+
+        MessageChunker messages = new MessageChunker().append(header);
+        for (IssueSummary issue : page) {
+            messages.append("ID: " + issue.getIssueId() +
+                    "\nTitle: " + issue.getIssueTitle() +
+                    "\nStatus: " + issue.getStatus() +
+                    "\nDue Date: " + issue.getDueDate() +
+                    "\n\n");
+        }
+        if (page.hasNext()) {
+            List<IssueSummary> shown = page.getContent();
+            issueCursors.put(chatId, shown.get(shown.size() - 1));
+            messages.append("Send " + BotLabels.MORE_ASSIGNED_ISSUES.getLabel() + " to see more.");
+        } else {
+            issueCursors.remove(chatId);
+            messages.append("To complete an issue, use " + BotLabels.COMPLETE_ISSUE.getLabel() + " or the command:\n" + COMPLETE_FORMAT);
+        }
+
+        for (String message : messages.finish()) {
+            sendMessage(chatId, message);
+        }
+    }
+
+    // Without arguments the issue, hours and notes are asked one message at a time
+    private void handleIssueCompletion(BotCommandArgs args) {
+        long chatId = args.getChatId();
+        logger.info("Received completion command: " + args.getText());
+
+        int remaining = args.remaining();
+        if (remaining == 0) {
+            sessionStore.start(chatId, COMPLETE_FLOW, ISSUE_ID_STEP);
+            sendMessage(chatId, "Which issue did you complete? Send its ID, or " + BotCommands.CANCEL.getCommand() + " to stop.");
+            return;
+        }
+        if (remaining == 1) {
+            // Only the issue, e.g. picked from the inline autocomplete: ask for the rest
+            ChatSession session = sessionStore.start(chatId, COMPLETE_FLOW, HOURS_STEP);
+            try {
+                session.put("issueId", String.valueOf(args.nextLong()));
+            } catch (NumberFormatException e) {
+                sessionStore.end(chatId);
+                sendMessage(chatId, "Invalid format. Use: " + COMPLETE_FORMAT);
+                return;
+            }
+            sessionStore.save(chatId, session);
+            sendMessage(chatId, "How many hours did you work on issue #" + session.get("issueId") + "?");
+            return;
+        }
+
+        Long issueId;
+        Integer hoursWorked;
+        try {
+            issueId = args.nextLong();
+            hoursWorked = args.nextInt();
+        } catch (NumberFormatException e) {
+            logger.error("Invalid number format in command: " + args.getText(), e);
+            sendMessage(chatId, "Invalid issue ID or hours format. Please use numbers.\nExample: /complete 123 4");
+            return;
+        }
+        String notes = args.rest();
+        completeIssue(chatId, senderId(args), issueId, hoursWorked, notes.isEmpty() ? null : notes);
+    }
+
+    @Override
+    public boolean continueFlow(BotCommandArgs args, ChatSession session) {
+        if (session == null || !COMPLETE_FLOW.equals(session.getFlow())) {
+            return false;
+        }
+
+        long chatId = args.getChatId();
+        try {
+            switch (session.getStep()) {
+                case ISSUE_ID_STEP:
+                    session.put("issueId", String.valueOf(args.nextLong()));
+                    session.setStep(HOURS_STEP);
+                    sessionStore.save(chatId, session);
+                    sendMessage(chatId, "How many hours did you work on it?");
+                    break;
+                case HOURS_STEP:
+                    session.put("hoursWorked", String.valueOf(args.nextInt()));
+                    session.setStep(NOTES_STEP);
+                    sessionStore.save(chatId, session);
+                    sendMessage(chatId, "Any completion notes? Send " + NO_NOTES + " for none.");
+                    break;
+                default:
+                    sessionStore.end(chatId);
+                    String notes = args.rest();
+                    completeIssue(chatId, senderId(args), Long.valueOf(session.get("issueId")),
+                            Integer.valueOf(session.get("hoursWorked")), NO_NOTES.equals(notes) ? null : notes);
+            }
+        } catch (NumberFormatException e) {
+            sendMessage(chatId, "Please send a number, or " + BotCommands.CANCEL.getCommand() + " to stop.");
+        }
+        return true;
+    }
+
+    // Open issues of the user whose titles match what was typed so far, answered from the
+    // in-memory index. Choosing one sends "/CompleteIssue <id>" to the chat.
+    @Override
+    public boolean answerInlineQuery(InlineQuery query) {
+        User user = userService.findByTelegramId(query.getFrom().getId());
+        List<InlineQueryResult> results = new ArrayList<>();
+        if (user != null) {
+            for (IssueTitle issue : issueTitleIndex.search(user.getUserId(), query.getQuery(), INLINE_RESULTS)) {
+                results.add(InlineQueryResultArticle.builder()
+                        .id(String.valueOf(issue.getIssueId()))
+                        .title(issue.getIssueTitle())
+                        .description("Issue #" + issue.getIssueId() + " - choose to complete it")
+                        .inputMessageContent(InputTextMessageContent.builder()
+                                .messageText(BotLabels.COMPLETE_ISSUE.getLabel() + " " + issue.getIssueId())
+                                .build())
+                        .build());
+            }
+        }
+
+        AnswerInlineQuery answer = AnswerInlineQuery.builder()
+                .inlineQueryId(query.getId())
+                .results(results)
+                .cacheTime(INLINE_CACHE_SECONDS)
+                .isPersonal(true)
+                .build();
+        deliveryService.send(answer, query.getFrom().getId()).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.error("Error answering inline query: " + error.getMessage());
+            }
+        });
+        return true;
+    }
+
+    private void completeIssue(long chatId, long telegramId, Long issueId, Integer hoursWorked, String notes) {
+        try {
+            User user = userService.findByTelegramId(telegramId);
+            if (user == null) {
+                logger.error("User not found for telegramId: " + telegramId);
+                sendMessage(chatId, "User not found. Please contact your administrator.");
+                return;
+            }
+
+            Issue issue = issueService.getIssueById(issueId)
+                    .orElseThrow(() -> new Exception("Issue not found"));
+
+            if (!user.getUserId().equals(issue.getAssignee())) {
+                logger.error("User " + user.getUserId() + " is not assigned to issue " + issueId);
+                sendMessage(chatId, "You are not assigned to this issue.");
+                return;
+            }
+
+            issueService.completeIssue(issueId, hoursWorked, notes);
+            logger.info("Successfully completed issue " + issueId);
+            sendMessage(chatId, "Issue #" + issueId + " marked as completed!\nHours worked: " + hoursWorked +
+                    (notes != null ? "\nNotes: " + notes : ""));
+        } catch (Exception e) {
+            logger.error("Error completing issue: " + e.getMessage(), e);
+            sendMessage(chatId, "Error completing issue: " + e.getMessage());
+        }
+    }
+
+    private void sendMessage(long chatId, String textToSend) {
+        SendMessage message = SendMessage.builder()
+                .chatId(String.valueOf(chatId))
+                .text(textToSend)
+                .build();
+        BotHelper.send(message, deliveryService);
+    }
+}
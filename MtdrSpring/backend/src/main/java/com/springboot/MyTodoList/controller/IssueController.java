@@ -1,26 +1,80 @@
 package com.springboot.MyTodoList.controller;
 
+import com.springboot.MyTodoList.dto.IssueListItem;
 import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.model.IssueEvent;
+import com.springboot.MyTodoList.service.IssueCounterStore;
 import com.springboot.MyTodoList.service.IssueService;
+import com.springboot.MyTodoList.util.IssueCounters;
+import com.springboot.MyTodoList.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/issues")
 public class IssueController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private IssueService issueService;
 
-    // Get all issues
+    @Autowired
+    private IssueCounterStore issueCounterStore;
+
+    // Get issues matching the given filters, one page at a time by due date (undated issues last).
+    // open=true leaves out completed issues. When there are more rows, the X-Next-Cursor header
+    // holds the cursor of the next page. Rows leave out the description and completion notes,
+    // which GET /issues/{id} returns.
     @GetMapping
-    public List<Issue> getAllIssues() {
-        return issueService.getAllIssues();
+    public ResponseEntity<List<IssueListItem>> getIssues(@RequestParam(required = false) Long sprint,
+                                                 @RequestParam(required = false) Long assignee,
+                                                 @RequestParam(required = false) Integer status,
+                                                 @RequestParam(defaultValue = "false") boolean open,
+                                                 @RequestParam(required = false) String team,
+                                                 @RequestParam(required = false) String issueType,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date dueFrom,
+                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) Date dueTo,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "100") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<IssueListItem> issues;
+        try {
+            issues = issueService.searchIssues(sprint, assignee, status, open, team, issueType, dueFrom, dueTo,
+                    cursor == null ? null : KeysetCursor.decode(cursor), pageSize);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        // A full page may have more rows after it: hand out the cursor of the next one
+        HttpHeaders headers = new HttpHeaders();
+        if (issues.size() == pageSize) {
+            headers.set(NEXT_CURSOR_HEADER, IssueService.cursorAfter(issues.get(issues.size() - 1)).encode());
+            headers.set("Access-Control-Expose-Headers", NEXT_CURSOR_HEADER);
+        }
+        return new ResponseEntity<>(issues, headers, HttpStatus.OK);
+    }
+
+    // Open and closed issues, estimation and hours of every sprint, from the in-memory counters
+    @GetMapping("/counters/by-sprint")
+    public Map<Long, IssueCounters> getCountersBySprint() {
+        return issueCounterStore.getCountersBySprint();
+    }
+
+    // Open and closed issues, estimation and hours of every assignee, from the in-memory counters
+    @GetMapping("/counters/by-assignee")
+    public Map<Long, IssueCounters> getCountersByAssignee() {
+        return issueCounterStore.getCountersByAssignee();
     }
 
     // Get a specific issue by ID
@@ -31,6 +85,12 @@ public class IssueController {
                 .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    // Changes of sprint, assignee, status, estimation and hours of an issue, oldest first
+    @GetMapping("/{id}/history")
+    public List<IssueEvent> getIssueHistory(@PathVariable Long id) {
+        return issueService.getIssueHistory(id);
+    }
+
     // Create a new issue
     @PostMapping
     public ResponseEntity<Issue> createIssue(@RequestBody Issue issue) {
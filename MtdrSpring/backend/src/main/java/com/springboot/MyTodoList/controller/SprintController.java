@@ -1,6 +1,12 @@
 package com.springboot.MyTodoList.controller;
 
+import com.springboot.MyTodoList.dto.BurndownPoint;
+import com.springboot.MyTodoList.dto.SprintMetrics;
+import com.springboot.MyTodoList.dto.SprintSummary;
+import com.springboot.MyTodoList.dto.SprintVelocity;
 import com.springboot.MyTodoList.model.Sprint;
+import com.springboot.MyTodoList.service.SprintBurndownService;
+import com.springboot.MyTodoList.service.SprintMetricsService;
 import com.springboot.MyTodoList.service.SprintService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -17,10 +23,36 @@ public class SprintController {
     @Autowired
     private SprintService sprintService;
 
-    // Get all sprints
+    @Autowired
+    private SprintMetricsService sprintMetricsService;
+
+    @Autowired
+    private SprintBurndownService sprintBurndownService;
+
+    // Get all sprints, with only the start of each goal; GET /sprints/{id} has the whole sprint
     @GetMapping
-    public List<Sprint> getAllSprints() {
-        return sprintService.getAllSprints();
+    public List<SprintSummary> getAllSprints() {
+        return sprintService.getSprintSummaries();
+    }
+
+    // Committed and completed estimation of every sprint, oldest first
+    @GetMapping("/velocity")
+    public List<SprintVelocity> getVelocity() {
+        return sprintMetricsService.getVelocity();
+    }
+
+    // Totals, status counts and per-assignee totals of a sprint, aggregated by the database
+    @GetMapping("/{id}/metrics")
+    public ResponseEntity<SprintMetrics> getSprintMetrics(@PathVariable Long id) {
+        return sprintMetricsService.getSprintMetrics(id)
+                .map(value -> new ResponseEntity<>(value, HttpStatus.OK))
+                .orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    // Daily remaining work of a sprint from the issue change log, refreshed by the rollup job
+    @GetMapping("/{id}/burndown")
+    public List<BurndownPoint> getSprintBurndown(@PathVariable Long id) {
+        return sprintBurndownService.getSprintBurndown(id);
     }
 
     // Get a specific sprint by ID
@@ -0,0 +1,162 @@
+package com.springboot.MyTodoList.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.telegram.telegrambots.bots.DefaultBotOptions;
+import org.telegram.telegrambots.bots.TelegramLongPollingBot;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import com.springboot.MyTodoList.service.BotUpdateExecutor;
+import com.springboot.MyTodoList.service.ChatSessionStore;
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+import com.springboot.MyTodoList.util.BotCommandArgs;
+import com.springboot.MyTodoList.util.BotCommandRouter;
+import com.springboot.MyTodoList.util.BotCommands;
+import com.springboot.MyTodoList.util.BotHelper;
+import com.springboot.MyTodoList.util.BotLabels;
+import com.springboot.MyTodoList.util.BotMessages;
+import com.springboot.MyTodoList.util.ChatSession;
+
+/*
+    The one Telegram bot of the application. It receives every update, from
+    long polling or the webhook, hands it to the chat's worker and routes it
+    through a single router assembled from the BotModules. The main screen,
+    hiding it and cancelling a flow belong to the host; everything else to
+    the modules. Replies go through the shared TelegramDeliveryService.
+ */
+public class TelegramBotHost extends TelegramLongPollingBot {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelegramBotHost.class);
+    private final List<BotModule> modules;
+    private final BotUpdateExecutor updateExecutor;
+    private final TelegramDeliveryService deliveryService;
+    private final ChatSessionStore sessionStore;
+    private final String botName;
+    private final BotCommandRouter router;
+
+    public TelegramBotHost(DefaultBotOptions options, String botToken, String botName, List<BotModule> modules,
+                           BotUpdateExecutor updateExecutor, TelegramDeliveryService deliveryService,
+                           ChatSessionStore sessionStore) {
+        super(options, botToken);
+        logger.info("Bot name: " + botName + ", modules: " + modules.size());
+        this.modules = modules;
+        this.updateExecutor = updateExecutor;
+        this.deliveryService = deliveryService;
+        this.sessionStore = sessionStore;
+        this.botName = botName;
+        this.router = buildRouter();
+    }
+
+    @Override
+    public String getBotUsername() {
+        return botName;
+    }
+
+    // Called on the session thread: hand the update over to the chat's worker, waiting for room if needed
+    @Override
+    public void onUpdateReceived(Update update) {
+        updateExecutor.submit(update, () -> handleUpdate(update));
+    }
+
+    // Called by the webhook endpoint. Returns false if the chat's worker had no room for the update.
+    public boolean offerUpdate(Update update) {
+        return updateExecutor.trySubmit(update, () -> handleUpdate(update));
+    }
+
+    private void handleUpdate(Update update) {
+        if (update.hasInlineQuery()) {
+            answerInlineQuery(update.getInlineQuery());
+            return;
+        }
+        if (!update.hasMessage() || !update.getMessage().hasText()) {
+            return;
+        }
+
+        try {
+            router.dispatch(update, update.getMessage().getChatId(), update.getMessage().getText());
+        } catch (Exception e) {
+            logger.error("Error occurred: " + e.getMessage(), e);
+        }
+    }
+
+    private void answerInlineQuery(InlineQuery query) {
+        try {
+            for (BotModule module : modules) {
+                if (module.answerInlineQuery(query)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Error answering inline query: " + e.getMessage(), e);
+        }
+    }
+
+    private BotCommandRouter buildRouter() {
+        BotCommandRouter router = new BotCommandRouter()
+                .on(BotCommands.START_COMMAND, args -> showMainScreen(args.getChatId()))
+                .on(BotLabels.SHOW_MAIN_SCREEN, args -> showMainScreen(args.getChatId()))
+                .on(BotCommands.HIDE_COMMAND, args -> hideMainScreen(args.getChatId()))
+                .on(BotLabels.HIDE_MAIN_SCREEN, args -> hideMainScreen(args.getChatId()))
+                .on(BotCommands.CANCEL, args -> cancelFlow(args.getChatId()))
+                .otherwise(this::continueFlow);
+        for (BotModule module : modules) {
+            module.addRoutes(router);
+        }
+        return router;
+    }
+
+    private void showMainScreen(long chatId) {
+        sessionStore.end(chatId);
+
+        StringBuilder text = new StringBuilder(BotMessages.HELLO_MYTODO_BOT.getMessage());
+        List<KeyboardRow> keyboard = new ArrayList<>();
+        for (BotModule module : modules) {
+            text.append("\n\n").append(module.help());
+            keyboard.addAll(module.mainScreenRows());
+        }
+        text.append("\n\n").append(BotCommands.CANCEL.getCommand()).append(" - Stop the current step-by-step action");
+
+        KeyboardRow row = new KeyboardRow();
+        row.add(BotLabels.SHOW_MAIN_SCREEN.getLabel());
+        row.add(BotLabels.HIDE_MAIN_SCREEN.getLabel());
+        keyboard.add(row);
+
+        ReplyKeyboardMarkup keyboardMarkup = new ReplyKeyboardMarkup();
+        keyboardMarkup.setKeyboard(keyboard);
+
+        SendMessage message = new SendMessage();
+        message.setChatId(chatId);
+        message.setText(text.toString());
+        message.setReplyMarkup(keyboardMarkup);
+        BotHelper.send(message, deliveryService);
+    }
+
+    private void hideMainScreen(long chatId) {
+        sessionStore.end(chatId);
+        BotHelper.sendMessageToTelegram(chatId, BotMessages.BYE.getMessage(), deliveryService);
+    }
+
+    private void cancelFlow(long chatId) {
+        sessionStore.end(chatId);
+        BotHelper.sendMessageToTelegram(chatId, "Cancelled. Select /start to go to the main screen.", deliveryService);
+    }
+
+    // Text no route matched goes to the module whose flow the chat is in
+    private void continueFlow(BotCommandArgs args) throws Exception {
+        ChatSession session = sessionStore.get(args.getChatId());
+        for (BotModule module : modules) {
+            if (module.continueFlow(args, session)) {
+                return;
+            }
+        }
+        BotHelper.sendMessageToTelegram(args.getChatId(), "Please use one of the available commands or buttons.",
+                deliveryService);
+    }
+}
@@ -0,0 +1,94 @@
+package com.springboot.MyTodoList.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    Webhook ingestion (telegram.bot.mode=webhook): Telegram posts each update
+    here instead of one process polling getUpdates, so any replica behind the
+    load balancer can take bot traffic. Updates go to the same handlers as in
+    polling mode. Requests must carry the secret token given to setWebhook.
+ */
+@RestController
+@ConditionalOnProperty(name = "telegram.bot.mode", havingValue = "webhook")
+public class TelegramWebhookController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelegramWebhookController.class);
+    private static final String SECRET_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    @Autowired
+    private TelegramBotHost telegramBotHost;
+
+    @Value("${telegram.bot.token}")
+    private String botToken;
+
+    @Value("${telegram.api.base-url:https://api.telegram.org}")
+    private String apiBaseUrl;
+
+    // Public URL of this endpoint; when set, it is registered with Telegram at startup
+    @Value("${telegram.webhook.url:}")
+    private String webhookUrl;
+
+    // Required in webhook mode: without it anyone could post forged updates as any Telegram user
+    @Value("${telegram.webhook.secret}")
+    private String secret;
+
+    @PostConstruct
+    public void checkSecret() {
+        if (secret.trim().isEmpty()) {
+            throw new IllegalStateException("telegram.webhook.secret must be set in webhook mode");
+        }
+    }
+
+    @PostMapping("/telegram/webhook")
+    public ResponseEntity<Void> receiveUpdate(@RequestHeader(value = SECRET_HEADER, required = false) String secretToken,
+                                              @RequestBody Update update) {
+        if (secretToken == null || !MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8),
+                secretToken.getBytes(StandardCharsets.UTF_8))) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+        // Handled asynchronously, so Telegram gets its answer right away. When the update could not be
+        // queued, an error status makes Telegram deliver it again later instead of considering it done.
+        if (!telegramBotHost.offerUpdate(update)) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    // Point Telegram at this endpoint. Every replica registers the same URL, so doing it more than once is harmless.
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerWebhook() {
+        if (webhookUrl.isEmpty()) {
+            logger.info("telegram.webhook.url not set, webhook left as registered");
+            return;
+        }
+        Map<String, Object> body = new HashMap<>();
+        body.put("url", webhookUrl);
+        body.put("secret_token", secret);
+        try {
+            new RestTemplate().postForObject(apiBaseUrl + "/bot" + botToken + "/setWebhook", body, String.class);
+            logger.info("Telegram webhook set to " + webhookUrl);
+        } catch (Exception e) {
+            logger.error("Error setting Telegram webhook: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.springboot.MyTodoList.controller;
+
+import com.springboot.MyTodoList.model.ToDoItem;
+import com.springboot.MyTodoList.service.ChatSessionStore;
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+import com.springboot.MyTodoList.service.ToDoItemService;
+import com.springboot.MyTodoList.service.TodoKeyboardService;
+import com.springboot.MyTodoList.util.BotCommandArgs;
+import com.springboot.MyTodoList.util.BotCommandRouter;
+import com.springboot.MyTodoList.util.BotCommands;
+import com.springboot.MyTodoList.util.BotHelper;
+import com.springboot.MyTodoList.util.BotLabels;
+import com.springboot.MyTodoList.util.BotMessages;
+import com.springboot.MyTodoList.util.ChatSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+import org.telegram.telegrambots.meta.api.objects.inlinequery.InlineQuery;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardRemove;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/*
+    Todo list of the bot: the paged list keyboard, item buttons
+    ("12-DONE", "12-UNDO", "12-DELETE") and adding items. Text outside any
+    other flow is taken as a new item, as the main screen invites.
+ */
+@Component
+public class TodoBotModule implements BotModule {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoBotModule.class);
+    private static final String ADD_ITEM_FLOW = "ADD_ITEM";
+
+    @Autowired
+    private ToDoItemService toDoItemService;
+
+    @Autowired
+    private TodoKeyboardService todoKeyboardService;
+
+    @Autowired
+    private TelegramDeliveryService deliveryService;
+
+    @Autowired
+    private ChatSessionStore sessionStore;
+
+    @Override
+    public void addRoutes(BotCommandRouter router) {
+        router.onItemAction(BotLabels.DONE, args -> setItemDone(args, true))
+                .onItemAction(BotLabels.UNDO, args -> setItemDone(args, false))
+                .onItemAction(BotLabels.DELETE, this::deleteItem)
+                .on(BotCommands.TODO_LIST, args -> sendTodoPage(args.getChatId(), todoKeyboardService.firstPage(args.getChatId())))
+                .on(BotLabels.LIST_ALL_ITEMS, args -> sendTodoPage(args.getChatId(), todoKeyboardService.firstPage(args.getChatId())))
+                .on(BotLabels.MY_TODO_LIST, args -> sendTodoPage(args.getChatId(), todoKeyboardService.currentPage(args.getChatId())))
+                .on(BotLabels.NEXT_PAGE, args -> sendTodoPage(args.getChatId(), todoKeyboardService.nextPage(args.getChatId())))
+                .on(BotLabels.PREVIOUS_PAGE, args -> sendTodoPage(args.getChatId(), todoKeyboardService.previousPage(args.getChatId())))
+                .on(BotCommands.ADD_ITEM, args -> promptNewItem(args.getChatId()))
+                .on(BotLabels.ADD_NEW_ITEM, args -> promptNewItem(args.getChatId()));
+    }
+
+    @Override
+    public List<KeyboardRow> mainScreenRows() {
+        KeyboardRow row = new KeyboardRow();
+        row.add(BotLabels.LIST_ALL_ITEMS.getLabel());
+        row.add(BotLabels.ADD_NEW_ITEM.getLabel());
+        return Collections.singletonList(row);
+    }
+
+    @Override
+    public String help() {
+        return BotCommands.TODO_LIST.getCommand() + " - Show your todo list\n" +
+                BotCommands.ADD_ITEM.getCommand() + " - Add a todo item";
+    }
+
+    // Only text sent after "Add New Item", while that flow is active, is a new todo item; other free text,
+    // such as a late answer to an expired prompt, is left to the host, which points at the commands
+    @Override
+    public boolean continueFlow(BotCommandArgs args, ChatSession session) {
+        if (session == null || !ADD_ITEM_FLOW.equals(session.getFlow())) {
+            return false;
+        }
+        sessionStore.end(args.getChatId());
+        addItem(args);
+        return true;
+    }
+
+    @Override
+    public boolean answerInlineQuery(InlineQuery query) {
+        return false;
+    }
+
+    // "<id>-DONE" and "<id>-UNDO"
+    private void setItemDone(BotCommandArgs args, boolean done) {
+        if (!hasValidItemId(args)) {
+            return;
+        }
+        int id = (int) args.getItemId();
+
+        try {
+            ToDoItem item = toDoItemService.getItemById(id).getBody();
+            item.setDone(done);
+            toDoItemService.updateToDoItem(id, item);
+            BotHelper.sendMessageToTelegram(args.getChatId(),
+                    done ? BotMessages.ITEM_DONE.getMessage() : BotMessages.ITEM_UNDONE.getMessage(), deliveryService);
+        } catch (Exception e) {
+            logger.error(e.getLocalizedMessage(), e);
+        }
+    }
+
+    // "<id>-DELETE"
+    private void deleteItem(BotCommandArgs args) {
+        if (!hasValidItemId(args)) {
+            return;
+        }
+        toDoItemService.deleteToDoItem((int) args.getItemId());
+        BotHelper.sendMessageToTelegram(args.getChatId(), BotMessages.ITEM_DELETED.getMessage(), deliveryService);
+    }
+
+    // Todo ids are ints while the router accepts up to 18 digits; a larger id must not wrap around to another item
+    private boolean hasValidItemId(BotCommandArgs args) {
+        if (args.getItemId() > Integer.MAX_VALUE) {
+            BotHelper.sendMessageToTelegram(args.getChatId(), BotMessages.INVALID_ID.getMessage(), deliveryService);
+            return false;
+        }
+        return true;
+    }
+
+    // One page of the list; the keyboard has previous/next buttons when there are more pages
+    private void sendTodoPage(long chatId, ReplyKeyboardMarkup keyboardMarkup) {
+        SendMessage messageToTelegram = new SendMessage();
+        messageToTelegram.setChatId(chatId);
+        messageToTelegram.setText(BotLabels.MY_TODO_LIST.getLabel());
+        messageToTelegram.setReplyMarkup(keyboardMarkup);
+
+        BotHelper.send(messageToTelegram, deliveryService);
+    }
+
+    // The next text message of this chat becomes the new item
+    private void promptNewItem(long chatId) {
+        sessionStore.start(chatId, ADD_ITEM_FLOW, "DESCRIPTION");
+
+        SendMessage messageToTelegram = new SendMessage();
+        messageToTelegram.setChatId(chatId);
+        messageToTelegram.setText(BotMessages.TYPE_NEW_TODO_ITEM.getMessage());
+        // hide keyboard
+        messageToTelegram.setReplyMarkup(new ReplyKeyboardRemove(true));
+
+        BotHelper.send(messageToTelegram, deliveryService);
+    }
+
+    private void addItem(BotCommandArgs args) {
+        try {
+            ToDoItem newItem = new ToDoItem();
+            newItem.setDescription(args.getText());
+            newItem.setCreation_ts(OffsetDateTime.now());
+            newItem.setDone(false);
+            toDoItemService.addToDoItem(newItem);
+
+            SendMessage messageToTelegram = new SendMessage();
+            messageToTelegram.setChatId(args.getChatId());
+            messageToTelegram.setText(BotMessages.NEW_ITEM_ADDED.getMessage());
+
+            BotHelper.send(messageToTelegram, deliveryService);
+        } catch (Exception e) {
+            logger.error(e.getLocalizedMessage(), e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.springboot.MyTodoList.controller;
 
+import com.springboot.MyTodoList.dto.UserSummary;
 import com.springboot.MyTodoList.model.User;
 import com.springboot.MyTodoList.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,10 +18,10 @@ public class UserController {
     @Autowired
     private UserService userService;
 
-    // Get all users
+    // Get all users without their Telegram ids; GET /users/{id} has the whole user
     @GetMapping
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public List<UserSummary> getAllUsers() {
+        return userService.getUserSummaries();
     }
 
     // Get a specific user by ID
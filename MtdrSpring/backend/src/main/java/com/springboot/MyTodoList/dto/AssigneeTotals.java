@@ -0,0 +1,15 @@
+package com.springboot.MyTodoList.dto;
+
+// IssueTotals of the issues of one assignee; assignee is null for unassigned issues
+public class AssigneeTotals extends IssueTotals {
+
+    private final Long assignee;
+
+    public AssigneeTotals(Long assignee) {
+        this.assignee = assignee;
+    }
+
+    public Long getAssignee() {
+        return assignee;
+    }
+}
@@ -0,0 +1,41 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Date;
+
+// State of a sprint at the end of a day on which one of its issues changed
+public class BurndownPoint {
+
+    private final Date day;
+    private final long issues;
+    private final long openIssues;
+    private final long remainingEstimation;
+    private final long hoursWorked;
+
+    public BurndownPoint(Date day, long issues, long openIssues, long remainingEstimation, long hoursWorked) {
+        this.day = day;
+        this.issues = issues;
+        this.openIssues = openIssues;
+        this.remainingEstimation = remainingEstimation;
+        this.hoursWorked = hoursWorked;
+    }
+
+    public Date getDay() {
+        return day;
+    }
+
+    public long getIssues() {
+        return issues;
+    }
+
+    public long getOpenIssues() {
+        return openIssues;
+    }
+
+    public long getRemainingEstimation() {
+        return remainingEstimation;
+    }
+
+    public long getHoursWorked() {
+        return hoursWorked;
+    }
+}
@@ -0,0 +1,14 @@
+package com.springboot.MyTodoList.dto;
+
+// Counts and sums over the issues of a sprint that share an assignee and a status
+public interface IssueAggregate {
+    Long getAssignee();
+
+    Integer getStatus();
+
+    Long getIssues();
+
+    Long getEstimation();
+
+    Long getHoursWorked();
+}
@@ -0,0 +1,76 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Date;
+
+// An issue as list views show it: everything but the description and completion notes
+public class IssueListItem {
+
+    // Issue attributes in constructor order, for criteria queries that select straight into this class
+    public static final String[] ATTRIBUTES = {"issueId", "issueTitle", "dueDate", "issueType", "estimation",
+            "assignee", "idSprint", "team", "status", "hoursWorked"};
+
+    private final Long issueId;
+    private final String issueTitle;
+    private final Date dueDate;
+    private final String issueType;
+    private final Integer estimation;
+    private final Long assignee;
+    private final Long idSprint;
+    private final String team;
+    private final Integer status;
+    private final Integer hoursWorked;
+
+    public IssueListItem(Long issueId, String issueTitle, Date dueDate, String issueType, Integer estimation,
+                         Long assignee, Long idSprint, String team, Integer status, Integer hoursWorked) {
+        this.issueId = issueId;
+        this.issueTitle = issueTitle;
+        this.dueDate = dueDate;
+        this.issueType = issueType;
+        this.estimation = estimation;
+        this.assignee = assignee;
+        this.idSprint = idSprint;
+        this.team = team;
+        this.status = status;
+        this.hoursWorked = hoursWorked;
+    }
+
+    public Long getIssueId() {
+        return issueId;
+    }
+
+    public String getIssueTitle() {
+        return issueTitle;
+    }
+
+    public Date getDueDate() {
+        return dueDate;
+    }
+
+    public String getIssueType() {
+        return issueType;
+    }
+
+    public Integer getEstimation() {
+        return estimation;
+    }
+
+    public Long getAssignee() {
+        return assignee;
+    }
+
+    public Long getIdSprint() {
+        return idSprint;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public Integer getHoursWorked() {
+        return hoursWorked;
+    }
+}
@@ -0,0 +1,6 @@
+package com.springboot.MyTodoList.dto;
+
+// Counts and sums over the issues that share a sprint, an assignee and a status
+public interface IssueSprintAggregate extends IssueAggregate {
+    Long getIdSprint();
+}
@@ -0,0 +1,14 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Date;
+
+// Projection of an issue onto what the bots list
+public interface IssueSummary {
+    Long getIssueId();
+
+    String getIssueTitle();
+
+    Integer getStatus();
+
+    Date getDueDate();
+}
@@ -0,0 +1,10 @@
+package com.springboot.MyTodoList.dto;
+
+// Projection of an open issue onto what the title index keeps
+public interface IssueTitle {
+    Long getIssueId();
+
+    String getIssueTitle();
+
+    Long getAssignee();
+}
@@ -0,0 +1,46 @@
+package com.springboot.MyTodoList.dto;
+
+// Issue counts, story points and hours worked of a group of issues; completed means status 1
+public class IssueTotals {
+
+    private long issues;
+    private long completedIssues;
+    private long estimation;
+    private long completedEstimation;
+    private long hoursWorked;
+
+    public void add(IssueAggregate row) {
+        long rowEstimation = row.getEstimation() == null ? 0 : row.getEstimation();
+        issues += row.getIssues();
+        estimation += rowEstimation;
+        hoursWorked += row.getHoursWorked() == null ? 0 : row.getHoursWorked();
+        if (row.getStatus() != null && row.getStatus() == 1) {
+            completedIssues += row.getIssues();
+            completedEstimation += rowEstimation;
+        }
+    }
+
+    public long getIssues() {
+        return issues;
+    }
+
+    public long getCompletedIssues() {
+        return completedIssues;
+    }
+
+    public long getEstimation() {
+        return estimation;
+    }
+
+    public long getCompletedEstimation() {
+        return completedEstimation;
+    }
+
+    public long getRemainingEstimation() {
+        return estimation - completedEstimation;
+    }
+
+    public long getHoursWorked() {
+        return hoursWorked;
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+// Progress of one sprint: totals, issue counts per status and totals per assignee
+public class SprintMetrics {
+
+    private final Long idSprint;
+    private final Date startDate;
+    private final Date endDate;
+    private final IssueTotals totals;
+    private final Map<String, Long> issuesByStatus;
+    private final Collection<AssigneeTotals> assignees;
+
+    public SprintMetrics(Long idSprint, Date startDate, Date endDate, IssueTotals totals,
+                         Map<String, Long> issuesByStatus, Collection<AssigneeTotals> assignees) {
+        this.idSprint = idSprint;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.totals = totals;
+        this.issuesByStatus = issuesByStatus;
+        this.assignees = assignees;
+    }
+
+    public Long getIdSprint() {
+        return idSprint;
+    }
+
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
+    public IssueTotals getTotals() {
+        return totals;
+    }
+
+    // Keyed by status code, "NONE" for issues without one
+    public Map<String, Long> getIssuesByStatus() {
+        return issuesByStatus;
+    }
+
+    public Collection<AssigneeTotals> getAssignees() {
+        return assignees;
+    }
+}
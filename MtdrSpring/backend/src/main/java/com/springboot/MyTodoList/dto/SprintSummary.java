@@ -0,0 +1,14 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Date;
+
+// Projection of a sprint onto what list views show; the goal is cut to its first characters
+public interface SprintSummary {
+    Long getIdSprint();
+
+    Date getStartDate();
+
+    Date getEndDate();
+
+    String getSprintGoal();
+}
@@ -0,0 +1,22 @@
+package com.springboot.MyTodoList.dto;
+
+import java.util.Date;
+
+// Planned and completed work of one sprint
+public interface SprintVelocity {
+    Long getIdSprint();
+
+    Date getStartDate();
+
+    Date getEndDate();
+
+    Long getIssues();
+
+    Long getCompletedIssues();
+
+    Long getEstimation();
+
+    Long getCompletedEstimation();
+
+    Long getHoursWorked();
+}
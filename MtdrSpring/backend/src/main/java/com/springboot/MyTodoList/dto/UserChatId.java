@@ -0,0 +1,8 @@
+package com.springboot.MyTodoList.dto;
+
+// Projection of a user onto the Telegram chat used to reach them
+public interface UserChatId {
+    Long getUserId();
+
+    Long getTelegramId();
+}
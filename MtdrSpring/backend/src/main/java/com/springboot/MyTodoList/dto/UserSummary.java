@@ -0,0 +1,10 @@
+package com.springboot.MyTodoList.dto;
+
+// Projection of a user onto what list views and pickers show
+public interface UserSummary {
+    Long getUserId();
+
+    String getUserName();
+
+    String getUserRol();
+}
@@ -32,8 +32,26 @@ public class Alert {
     private OffsetDateTime scheduledTime;
 
     @Column(name = "STATUS")
-    private String status;  // e.g., 'PENDING', 'SENT'
+    private String status;  // 'PENDING', 'SENT', 'FAILED' (retry scheduled), 'DEAD' (gave up) or 'CANCELLED'
 
+    @Column(name = "LEASE_OWNER", length = 100)
+    private String leaseOwner;  // Replica currently dispatching the alert
+
+    @Column(name = "LEASE_EXPIRES_AT")
+    private OffsetDateTime leaseExpiresAt;
+
+    // Delivery ledger
+    @Column(name = "ATTEMPT_COUNT")
+    private Integer attemptCount;
+
+    @Column(name = "NEXT_ATTEMPT_AT")
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    @Column(name = "IDEMPOTENCY_KEY", length = 100, unique = true)
+    private String idempotencyKey;
 
     // Getters and Setters
     public Long getId() {
@@ -108,6 +126,54 @@ public class Alert {
         this.status = status;
     }
 
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public OffsetDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(OffsetDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public Integer getAttemptCount() {
+        return attemptCount;
+    }
+
+    public void setAttemptCount(Integer attemptCount) {
+        this.attemptCount = attemptCount;
+    }
+
+    public OffsetDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(OffsetDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
     @Override
     public String toString() {
         return "Alert{" +
@@ -120,6 +186,12 @@ public class Alert {
                 ", priority='" + priority + '\'' +
                 ", scheduledTime=" + scheduledTime +
                 ", status='" + status + '\'' +
+                ", leaseOwner='" + leaseOwner + '\'' +
+                ", leaseExpiresAt=" + leaseExpiresAt +
+                ", attemptCount=" + attemptCount +
+                ", nextAttemptAt=" + nextAttemptAt +
+                ", lastError='" + lastError + '\'' +
+                ", idempotencyKey='" + idempotencyKey + '\'' +
                 '}';
     }
 }
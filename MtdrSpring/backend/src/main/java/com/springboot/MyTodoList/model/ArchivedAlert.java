@@ -0,0 +1,124 @@
+package com.springboot.MyTodoList.model;
+
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+
+/*
+    A SENT or CANCELLED alert moved out of ALERT by AlertArchiver.
+    Archived rows are never changed, only read and eventually dropped with
+    their partition.
+ */
+@Entity
+@Immutable
+@Table(name = "ALERT_ARCHIVE")
+public class ArchivedAlert {
+    @Id
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "MESSAGE")
+    private String message;
+
+    @Column(name = "TASK_ID")
+    private Long taskId;
+
+    @Column(name = "TASK")
+    private String task;
+
+    @Column(name = "PROJECT_ID")
+    private Long projectId;
+
+    @Column(name = "USER_ID")
+    private String userId;
+
+    @Column(name = "PRIORITY")
+    private String priority;
+
+    @Column(name = "SCHEDULED_TIME")
+    private OffsetDateTime scheduledTime;
+
+    @Column(name = "STATUS")
+    private String status;
+
+    @Column(name = "ATTEMPT_COUNT")
+    private Integer attemptCount;
+
+    @Column(name = "LAST_ERROR", length = 1000)
+    private String lastError;
+
+    @Column(name = "IDEMPOTENCY_KEY", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "ARCHIVED_AT")
+    private LocalDateTime archivedAt;  // Partition key of ALERT_ARCHIVE
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTask() {
+        return task;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public OffsetDateTime getScheduledTime() {
+        return scheduledTime;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getAttemptCount() {
+        return attemptCount;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedAlert{" +
+                "id=" + id +
+                ", message='" + message + '\'' +
+                ", taskId=" + taskId +
+                ", userId='" + userId + '\'' +
+                ", priority='" + priority + '\'' +
+                ", scheduledTime=" + scheduledTime +
+                ", status='" + status + '\'' +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
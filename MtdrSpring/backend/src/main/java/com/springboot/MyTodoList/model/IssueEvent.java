@@ -0,0 +1,172 @@
+package com.springboot.MyTodoList.model;
+
+import javax.persistence.*;
+import java.time.OffsetDateTime;
+
+/*
+    One change of an issue in the append-only ISSUE_EVENT log, with the
+    tracked fields before and after it. Before values are null for CREATED
+    and SNAPSHOT events, after values are null for DELETED ones. Rows are
+    only ever inserted.
+ */
+@Entity
+@Table(name = "ISSUE_EVENT")
+public class IssueEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "issueEventSeq")
+    @SequenceGenerator(name = "issueEventSeq", sequenceName = "ISSUE_EVENT_SEQ", allocationSize = 50)
+    @Column(name = "ID")
+    private Long id;
+
+    @Column(name = "ISSUE_ID")
+    private Long issueId;
+
+    @Column(name = "EVENT_TYPE", length = 20)
+    private String eventType;  // 'CREATED', 'UPDATED', 'DELETED' or 'SNAPSHOT' (issues that existed before the log)
+
+    @Column(name = "EVENT_TIME")
+    private OffsetDateTime eventTime;
+
+    @Column(name = "ID_SPRINT_BEFORE")
+    private Long idSprintBefore;
+
+    @Column(name = "ID_SPRINT_AFTER")
+    private Long idSprintAfter;
+
+    @Column(name = "ASSIGNEE_BEFORE")
+    private Long assigneeBefore;
+
+    @Column(name = "ASSIGNEE_AFTER")
+    private Long assigneeAfter;
+
+    @Column(name = "STATUS_BEFORE")
+    private Integer statusBefore;
+
+    @Column(name = "STATUS_AFTER")
+    private Integer statusAfter;
+
+    @Column(name = "ESTIMATION_BEFORE")
+    private Integer estimationBefore;
+
+    @Column(name = "ESTIMATION_AFTER")
+    private Integer estimationAfter;
+
+    @Column(name = "HOURS_WORKED_BEFORE")
+    private Integer hoursWorkedBefore;
+
+    @Column(name = "HOURS_WORKED_AFTER")
+    private Integer hoursWorkedAfter;
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIssueId() {
+        return issueId;
+    }
+
+    public void setIssueId(Long issueId) {
+        this.issueId = issueId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public OffsetDateTime getEventTime() {
+        return eventTime;
+    }
+
+    public void setEventTime(OffsetDateTime eventTime) {
+        this.eventTime = eventTime;
+    }
+
+    public Long getIdSprintBefore() {
+        return idSprintBefore;
+    }
+
+    public void setIdSprintBefore(Long idSprintBefore) {
+        this.idSprintBefore = idSprintBefore;
+    }
+
+    public Long getIdSprintAfter() {
+        return idSprintAfter;
+    }
+
+    public void setIdSprintAfter(Long idSprintAfter) {
+        this.idSprintAfter = idSprintAfter;
+    }
+
+    public Long getAssigneeBefore() {
+        return assigneeBefore;
+    }
+
+    public void setAssigneeBefore(Long assigneeBefore) {
+        this.assigneeBefore = assigneeBefore;
+    }
+
+    public Long getAssigneeAfter() {
+        return assigneeAfter;
+    }
+
+    public void setAssigneeAfter(Long assigneeAfter) {
+        this.assigneeAfter = assigneeAfter;
+    }
+
+    public Integer getStatusBefore() {
+        return statusBefore;
+    }
+
+    public void setStatusBefore(Integer statusBefore) {
+        this.statusBefore = statusBefore;
+    }
+
+    public Integer getStatusAfter() {
+        return statusAfter;
+    }
+
+    public void setStatusAfter(Integer statusAfter) {
+        this.statusAfter = statusAfter;
+    }
+
+    public Integer getEstimationBefore() {
+        return estimationBefore;
+    }
+
+    public void setEstimationBefore(Integer estimationBefore) {
+        this.estimationBefore = estimationBefore;
+    }
+
+    public Integer getEstimationAfter() {
+        return estimationAfter;
+    }
+
+    public void setEstimationAfter(Integer estimationAfter) {
+        this.estimationAfter = estimationAfter;
+    }
+
+    public Integer getHoursWorkedBefore() {
+        return hoursWorkedBefore;
+    }
+
+    public void setHoursWorkedBefore(Integer hoursWorkedBefore) {
+        this.hoursWorkedBefore = hoursWorkedBefore;
+    }
+
+    public Integer getHoursWorkedAfter() {
+        return hoursWorkedAfter;
+    }
+
+    public void setHoursWorkedAfter(Integer hoursWorkedAfter) {
+        this.hoursWorkedAfter = hoursWorkedAfter;
+    }
+}
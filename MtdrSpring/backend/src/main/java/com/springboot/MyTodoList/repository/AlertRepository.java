@@ -11,7 +11,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 
 @Repository
-public interface AlertRepository extends JpaRepository<Alert, Long> {
+public interface AlertRepository extends JpaRepository<Alert, Long>, AlertRepositoryCustom {
 
     // Find alerts by status (e.g., PENDING, SENT)
     List<Alert> findByStatus(String status);
@@ -44,4 +44,63 @@ public interface AlertRepository extends JpaRepository<Alert, Long> {
     // Find alerts by taskId and status (useful for checking specific tasks)
     List<Alert> findByTaskIdAndStatus(Long taskId, String status);
 
+    // Alerts ready for a delivery attempt: PENDING ones that reached their scheduled time and FAILED ones whose
+    // backoff has elapsed, as long as no replica holds a lease on them. Leases are stamped and checked
+    // with the database clock, so replicas with skewed clocks agree on when one expires.
+    String DELIVERABLE = "((STATUS = 'PENDING' AND SCHEDULED_TIME <= :now) OR (STATUS = 'FAILED' AND NEXT_ATTEMPT_AT <= :now)) " +
+            "AND (LEASE_EXPIRES_AT IS NULL OR LEASE_EXPIRES_AT < SYSTIMESTAMP)";
+
+    Alert findByIdempotencyKey(String idempotencyKey);
+
+    List<Alert> findByTaskIdAndIdempotencyKeyStartingWith(Long taskId, String keyPrefix);
+
+    // Idempotency keys starting with the prefix of alerts scheduled after the given time
+    @Query("SELECT a.idempotencyKey FROM Alert a WHERE a.idempotencyKey LIKE CONCAT(:keyPrefix, '%') AND a.scheduledTime > :after")
+    List<String> findIdempotencyKeysScheduledAfter(@Param("keyPrefix") String keyPrefix, @Param("after") OffsetDateTime after);
+
+    // Lock the given alerts if they are deliverable
+    @Query(value = "SELECT * FROM ALERT WHERE ID IN (:ids) AND " + DELIVERABLE + " FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Alert> lockDueAlertsByIds(@Param("ids") List<Long> ids, @Param("now") OffsetDateTime now);
+
+    // Take a lease on locked alerts, expiring leaseSeconds from now by the database clock
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE ALERT SET LEASE_OWNER = :owner, " +
+            "LEASE_EXPIRES_AT = SYSTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND') WHERE ID IN (:ids)", nativeQuery = true)
+    int leaseAlerts(@Param("ids") List<Long> ids, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // Extend the leases the owner still holds on alerts that are waiting in its delivery queue
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE ALERT SET LEASE_EXPIRES_AT = SYSTIMESTAMP + NUMTODSINTERVAL(:leaseSeconds, 'SECOND') " +
+            "WHERE ID IN (:ids) AND LEASE_OWNER = :owner AND LEASE_EXPIRES_AT > SYSTIMESTAMP", nativeQuery = true)
+    int renewLeases(@Param("ids") List<Long> ids, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // Record a successful delivery of leased alerts and release the lease. Only a lease that is still
+    // valid counts: once it expired the alert may have been claimed again, even under the same owner id.
+    // CURRENT_TIMESTAMP is the database clock, the one leaseAlerts stamps the lease with.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.status = 'SENT', a.attemptCount = COALESCE(a.attemptCount, 0) + 1, " +
+            "a.nextAttemptAt = NULL, a.lastError = NULL, a.leaseOwner = NULL, a.leaseExpiresAt = NULL " +
+            "WHERE a.id IN :ids AND a.leaseOwner = :owner AND a.leaseExpiresAt > CURRENT_TIMESTAMP")
+    int markLeasedAlertsSent(@Param("ids") List<Long> ids, @Param("owner") String owner);
+
+    // Record a failed delivery of a leased alert and release the lease
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Alert a SET a.status = :status, a.attemptCount = :attemptCount, a.nextAttemptAt = :nextAttemptAt, " +
+            "a.lastError = :lastError, a.leaseOwner = NULL, a.leaseExpiresAt = NULL " +
+            "WHERE a.id = :id AND a.leaseOwner = :owner AND a.leaseExpiresAt > CURRENT_TIMESTAMP")
+    int recordLeasedAlertFailure(@Param("id") Long id, @Param("owner") String owner, @Param("status") String status,
+                                 @Param("attemptCount") Integer attemptCount, @Param("nextAttemptAt") OffsetDateTime nextAttemptAt,
+                                 @Param("lastError") String lastError);
+
+    // Copy alerts into ALERT_ARCHIVE in one set-based statement
+    @Modifying
+    @Query(value = "INSERT INTO ALERT_ARCHIVE (ID, MESSAGE, TASK_ID, TASK, PROJECT_ID, USER_ID, PRIORITY, SCHEDULED_TIME, " +
+            "STATUS, ATTEMPT_COUNT, LAST_ERROR, IDEMPOTENCY_KEY, ARCHIVED_AT) " +
+            "SELECT ID, MESSAGE, TASK_ID, TASK, PROJECT_ID, USER_ID, PRIORITY, SCHEDULED_TIME, " +
+            "STATUS, ATTEMPT_COUNT, LAST_ERROR, IDEMPOTENCY_KEY, LOCALTIMESTAMP FROM ALERT WHERE ID IN (:ids)", nativeQuery = true)
+    int copyAlertsToArchive(@Param("ids") List<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Alert a WHERE a.id IN :ids")
+    int deleteAlertsByIds(@Param("ids") List<Long> ids);
 }
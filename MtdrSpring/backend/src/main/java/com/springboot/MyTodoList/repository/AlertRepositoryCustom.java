@@ -0,0 +1,19 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.Alert;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public interface AlertRepositoryCustom {
+    // First rows matching the specification, without the count query a Page would need
+    List<Alert> findFirst(Specification<Alert> spec, Sort sort, int limit);
+
+    // Lock up to batchSize deliverable alerts, highest priority first, skipping rows other replicas hold
+    List<Alert> lockDueAlerts(OffsetDateTime now, int batchSize);
+
+    // Lock up to batchSize SENT/CANCELLED alerts scheduled before the cutoff, for archiving
+    List<Long> lockArchivableAlertIds(OffsetDateTime cutoff, int batchSize);
+}
@@ -0,0 +1,72 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.Alert;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AlertRepositoryImpl implements AlertRepositoryCustom {
+
+    private static final String LOCK_DUE_ALERTS = "SELECT * FROM ALERT WHERE " + AlertRepository.DELIVERABLE + " " +
+            "ORDER BY CASE UPPER(PRIORITY) WHEN 'ALTA' THEN 0 WHEN 'HIGH' THEN 0 WHEN 'BAJA' THEN 2 WHEN 'LOW' THEN 2 ELSE 1 END, " +
+            "SCHEDULED_TIME FOR UPDATE SKIP LOCKED";
+
+    private static final String LOCK_ARCHIVABLE_ALERTS = "SELECT ID FROM ALERT " +
+            "WHERE STATUS IN ('SENT', 'CANCELLED') AND SCHEDULED_TIME < :cutoff " +
+            "ORDER BY SCHEDULED_TIME, ID FOR UPDATE SKIP LOCKED";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Alert> findFirst(Specification<Alert> spec, Sort sort, int limit) {
+        return SpecificationQueries.findFirst(entityManager, Alert.class, spec, sort, limit);
+    }
+
+    // Oracle locks SKIP LOCKED rows as they are fetched, so the batch is cut from the locking cursor itself.
+    // Limiting with ROWNUM first would make concurrent replicas pick the same rows and lock nothing.
+    @Override
+    public List<Alert> lockDueAlerts(OffsetDateTime now, int batchSize) {
+        List<Alert> locked = new ArrayList<>();
+        ScrollableResults rows = entityManager.createNativeQuery(LOCK_DUE_ALERTS, Alert.class)
+                .setParameter("now", now)
+                .unwrap(NativeQuery.class)
+                .setFetchSize(batchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            while (locked.size() < batchSize && rows.next()) {
+                locked.add((Alert) rows.get(0));
+            }
+        } finally {
+            rows.close();
+        }
+        return locked;
+    }
+
+    // Same locking cursor as lockDueAlerts, so concurrent archivers split the old rows between them
+    @Override
+    public List<Long> lockArchivableAlertIds(OffsetDateTime cutoff, int batchSize) {
+        List<Long> locked = new ArrayList<>();
+        ScrollableResults rows = entityManager.createNativeQuery(LOCK_ARCHIVABLE_ALERTS)
+                .setParameter("cutoff", cutoff)
+                .unwrap(NativeQuery.class)
+                .setFetchSize(batchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            while (locked.size() < batchSize && rows.next()) {
+                locked.add(((Number) rows.get(0)).longValue());
+            }
+        } finally {
+            rows.close();
+        }
+        return locked;
+    }
+}
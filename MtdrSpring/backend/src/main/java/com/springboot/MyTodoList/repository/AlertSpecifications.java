@@ -0,0 +1,71 @@
+package com.springboot.MyTodoList.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.OffsetDateTime;
+
+/*
+    Filters for alert queries, one per AlertRepository finder, so they can be
+    combined freely. Null arguments mean "no filter". They only use attribute
+    names, so they work for live alerts and archived ones alike.
+ */
+public final class AlertSpecifications {
+
+    private AlertSpecifications() {
+    }
+
+    public static <T> Specification<T> hasUserId(String userId) {
+        return (root, query, cb) -> userId == null ? null : cb.equal(root.get("userId"), userId);
+    }
+
+    public static <T> Specification<T> hasPriority(String priority) {
+        return (root, query, cb) -> priority == null ? null : cb.equal(root.get("priority"), priority);
+    }
+
+    public static <T> Specification<T> hasStatus(String status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static <T> Specification<T> hasTaskId(Long taskId) {
+        return (root, query, cb) -> taskId == null ? null : cb.equal(root.get("taskId"), taskId);
+    }
+
+    public static <T> Specification<T> scheduledBetween(OffsetDateTime from, OffsetDateTime to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("scheduledTime"), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.get("scheduledTime"), from);
+            }
+            if (to != null) {
+                return cb.lessThanOrEqualTo(root.get("scheduledTime"), to);
+            }
+            return null;
+        };
+    }
+
+    // Every given filter at once
+    public static <T> Specification<T> matching(String userId, String priority, String status, Long taskId,
+                                                OffsetDateTime from, OffsetDateTime to) {
+        Specification<T> spec = hasUserId(userId);
+        return spec.and(hasPriority(priority))
+                .and(hasStatus(status))
+                .and(hasTaskId(taskId))
+                .and(scheduledBetween(from, to));
+    }
+
+    // Seek past the last row of the previous page, in (scheduledTime, id) order with unscheduled alerts
+    // last, which is how Oracle sorts nulls in ascending order
+    public static <T> Specification<T> after(OffsetDateTime scheduledTime, Long id) {
+        return (root, query, cb) -> {
+            if (scheduledTime == null) {
+                return cb.and(cb.isNull(root.get("scheduledTime")), cb.greaterThan(root.get("id"), id));
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("scheduledTime"), scheduledTime),
+                    cb.and(cb.equal(root.get("scheduledTime"), scheduledTime), cb.greaterThan(root.get("id"), id)),
+                    cb.isNull(root.get("scheduledTime")));
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.ArchivedAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedAlertRepository extends JpaRepository<ArchivedAlert, Long>, ArchivedAlertRepositoryCustom {
+}
@@ -0,0 +1,12 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.ArchivedAlert;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ArchivedAlertRepositoryCustom {
+    // First rows matching the specification, without the count query a Page would need
+    List<ArchivedAlert> findFirst(Specification<ArchivedAlert> spec, Sort sort, int limit);
+}
@@ -0,0 +1,20 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.ArchivedAlert;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class ArchivedAlertRepositoryImpl implements ArchivedAlertRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ArchivedAlert> findFirst(Specification<ArchivedAlert> spec, Sort sort, int limit) {
+        return SpecificationQueries.findFirst(entityManager, ArchivedAlert.class, spec, sort, limit);
+    }
+}
@@ -0,0 +1,56 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.IssueEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface IssueEventRepository extends JpaRepository<IssueEvent, Long> {
+
+    // What an issue went through, oldest change first
+    List<IssueEvent> findByIssueIdOrderByEventTimeAscIdAsc(Long issueId);
+
+    // Every event counts the issue's after values into its new sprint and takes its before values out of the old one
+    String SPRINT_DELTAS =
+            "SELECT ID_SPRINT_AFTER ID_SPRINT, TRUNC(EVENT_TIME) EVENT_DAY, 1 ISSUES, " +
+            "CASE WHEN STATUS_AFTER = 1 THEN 0 ELSE 1 END OPEN_ISSUES, " +
+            "CASE WHEN STATUS_AFTER = 1 THEN 0 ELSE NVL(ESTIMATION_AFTER, 0) END REMAINING_ESTIMATION, " +
+            "NVL(HOURS_WORKED_AFTER, 0) HOURS_WORKED " +
+            "FROM ISSUE_EVENT WHERE ID_SPRINT_AFTER IS NOT NULL AND EVENT_TIME >= :from " +
+            "UNION ALL " +
+            "SELECT ID_SPRINT_BEFORE, TRUNC(EVENT_TIME), -1, " +
+            "CASE WHEN STATUS_BEFORE = 1 THEN 0 ELSE -1 END, " +
+            "CASE WHEN STATUS_BEFORE = 1 THEN 0 ELSE -NVL(ESTIMATION_BEFORE, 0) END, " +
+            "-NVL(HOURS_WORKED_BEFORE, 0) " +
+            "FROM ISSUE_EVENT WHERE ID_SPRINT_BEFORE IS NOT NULL AND EVENT_TIME >= :from";
+
+    @Query(value = "SELECT MAX(EVENT_DAY) FROM ISSUE_SPRINT_DAY", nativeQuery = true)
+    Date findLastRollupDay();
+
+    @Modifying
+    @Query(value = "DELETE FROM ISSUE_SPRINT_DAY WHERE EVENT_DAY >= :from", nativeQuery = true)
+    int deleteRollupFrom(@Param("from") Date from);
+
+    // Sum the changes of each sprint and day since the given day into ISSUE_SPRINT_DAY
+    @Modifying
+    @Query(value = "INSERT INTO ISSUE_SPRINT_DAY (ID_SPRINT, EVENT_DAY, ISSUES_DELTA, OPEN_ISSUES_DELTA, " +
+            "REMAINING_ESTIMATION_DELTA, HOURS_WORKED_DELTA) " +
+            "SELECT ID_SPRINT, EVENT_DAY, SUM(ISSUES), SUM(OPEN_ISSUES), SUM(REMAINING_ESTIMATION), SUM(HOURS_WORKED) " +
+            "FROM (" + SPRINT_DELTAS + ") GROUP BY ID_SPRINT, EVENT_DAY", nativeQuery = true)
+    int rollupFrom(@Param("from") Date from);
+
+    // Running totals of the sprint at the end of each day it changed:
+    // day, issues, open issues, remaining estimation, hours worked
+    @Query(value = "SELECT EVENT_DAY, SUM(ISSUES_DELTA) OVER (ORDER BY EVENT_DAY), " +
+            "SUM(OPEN_ISSUES_DELTA) OVER (ORDER BY EVENT_DAY), " +
+            "SUM(REMAINING_ESTIMATION_DELTA) OVER (ORDER BY EVENT_DAY), " +
+            "SUM(HOURS_WORKED_DELTA) OVER (ORDER BY EVENT_DAY) " +
+            "FROM ISSUE_SPRINT_DAY WHERE ID_SPRINT = :sprint ORDER BY EVENT_DAY", nativeQuery = true)
+    List<Object[]> findSprintBurndown(@Param("sprint") Long idSprint);
+}
@@ -1,12 +1,62 @@
 package com.springboot.MyTodoList.repository;
 
+import com.springboot.MyTodoList.dto.IssueAggregate;
+import com.springboot.MyTodoList.dto.IssueSprintAggregate;
+import com.springboot.MyTodoList.dto.IssueSummary;
+import com.springboot.MyTodoList.dto.IssueTitle;
 import com.springboot.MyTodoList.model.Issue;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue>, IssueRepositoryCustom {
     List<Issue> findByAssignee(Long assigneeId);
+
+    // Open (not completed) issues of an assignee, by due date, undated ones last
+    String OPEN_SUMMARIES = "SELECT i.issueId AS issueId, i.issueTitle AS issueTitle, i.status AS status, i.dueDate AS dueDate " +
+            "FROM Issue i WHERE i.assignee = :assignee AND (i.status IS NULL OR i.status <> 1) ";
+    String DUE_DATE_ORDER = "ORDER BY i.dueDate ASC NULLS LAST, i.issueId ASC";
+
+    @Query(OPEN_SUMMARIES + DUE_DATE_ORDER)
+    Slice<IssueSummary> findOpenIssueSummaries(@Param("assignee") Long assignee, Pageable pageable);
+
+    // Next page after a dated issue: later dates, same date with a higher id, then the undated ones
+    @Query(OPEN_SUMMARIES + "AND (i.dueDate > :dueDate OR (i.dueDate = :dueDate AND i.issueId > :issueId) OR i.dueDate IS NULL) " +
+            DUE_DATE_ORDER)
+    Slice<IssueSummary> findOpenIssueSummariesAfter(@Param("assignee") Long assignee, @Param("dueDate") Date dueDate,
+                                                    @Param("issueId") Long issueId, Pageable pageable);
+
+    // Next page after an undated issue
+    @Query(OPEN_SUMMARIES + "AND i.dueDate IS NULL AND i.issueId > :issueId " + DUE_DATE_ORDER)
+    Slice<IssueSummary> findOpenUndatedIssueSummariesAfter(@Param("assignee") Long assignee, @Param("issueId") Long issueId,
+                                                           Pageable pageable);
+
+    // Assigned issues not completed yet (status 1) that are due after the given date
+    @Query("SELECT i FROM Issue i WHERE i.dueDate > :date AND i.assignee IS NOT NULL " +
+            "AND (i.status IS NULL OR i.status <> 1) ORDER BY i.dueDate")
+    List<Issue> findOpenIssuesDueAfter(@Param("date") Date date);
+
+    // Titles of every assigned issue not completed yet
+    @Query("SELECT i.issueId AS issueId, i.issueTitle AS issueTitle, i.assignee AS assignee FROM Issue i " +
+            "WHERE i.assignee IS NOT NULL AND (i.status IS NULL OR i.status <> 1)")
+    List<IssueTitle> findOpenIssueTitles();
+
+    // Counts and sums of the sprint's issues per assignee and status, aggregated by the database
+    @Query("SELECT i.assignee AS assignee, i.status AS status, COUNT(i) AS issues, SUM(i.estimation) AS estimation, " +
+            "SUM(i.hoursWorked) AS hoursWorked FROM Issue i WHERE i.idSprint = :sprint GROUP BY i.assignee, i.status")
+    List<IssueAggregate> aggregateSprint(@Param("sprint") Long idSprint);
+
+    // Counts and sums of all issues per sprint, assignee and status, aggregated by the database
+    @Query("SELECT i.idSprint AS idSprint, i.assignee AS assignee, i.status AS status, COUNT(i) AS issues, " +
+            "SUM(i.estimation) AS estimation, SUM(i.hoursWorked) AS hoursWorked FROM Issue i " +
+            "GROUP BY i.idSprint, i.assignee, i.status")
+    List<IssueSprintAggregate> aggregateAll();
 } 
\ No newline at end of file
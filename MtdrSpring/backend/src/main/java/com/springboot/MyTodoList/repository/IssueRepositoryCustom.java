@@ -0,0 +1,16 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.dto.IssueListItem;
+import com.springboot.MyTodoList.model.Issue;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface IssueRepositoryCustom {
+    // First rows matching the specification, without the count query a Page would need
+    List<Issue> findFirst(Specification<Issue> spec, Sort sort, int limit);
+
+    // Same, reading only the columns of IssueListItem
+    List<IssueListItem> findFirstListItems(Specification<Issue> spec, Sort sort, int limit);
+}
@@ -0,0 +1,27 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.dto.IssueListItem;
+import com.springboot.MyTodoList.model.Issue;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+public class IssueRepositoryImpl implements IssueRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Issue> findFirst(Specification<Issue> spec, Sort sort, int limit) {
+        return SpecificationQueries.findFirst(entityManager, Issue.class, spec, sort, limit);
+    }
+
+    @Override
+    public List<IssueListItem> findFirstListItems(Specification<Issue> spec, Sort sort, int limit) {
+        return SpecificationQueries.findFirst(entityManager, Issue.class, IssueListItem.class, IssueListItem.ATTRIBUTES,
+                spec, sort, limit);
+    }
+}
@@ -0,0 +1,82 @@
+package com.springboot.MyTodoList.repository;
+
+import com.springboot.MyTodoList.model.Issue;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Date;
+
+/*
+    Filters for issue queries, combined freely into one Specification.
+    Null arguments mean "no filter".
+ */
+public final class IssueSpecifications {
+
+    private IssueSpecifications() {
+    }
+
+    public static Specification<Issue> hasSprint(Long idSprint) {
+        return (root, query, cb) -> idSprint == null ? null : cb.equal(root.get("idSprint"), idSprint);
+    }
+
+    public static Specification<Issue> hasAssignee(Long assignee) {
+        return (root, query, cb) -> assignee == null ? null : cb.equal(root.get("assignee"), assignee);
+    }
+
+    public static Specification<Issue> hasStatus(Integer status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // Not completed yet (status 1); issues without a status count as open
+    public static Specification<Issue> isOpen(boolean open) {
+        return (root, query, cb) -> !open ? null : cb.or(cb.isNull(root.get("status")), cb.notEqual(root.get("status"), 1));
+    }
+
+    public static Specification<Issue> hasTeam(String team) {
+        return (root, query, cb) -> team == null ? null : cb.equal(root.get("team"), team);
+    }
+
+    public static Specification<Issue> hasIssueType(String issueType) {
+        return (root, query, cb) -> issueType == null ? null : cb.equal(root.get("issueType"), issueType);
+    }
+
+    public static Specification<Issue> dueBetween(Date from, Date to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("dueDate"), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.get("dueDate"), from);
+            }
+            if (to != null) {
+                return cb.lessThanOrEqualTo(root.get("dueDate"), to);
+            }
+            return null;
+        };
+    }
+
+    // Every given filter at once
+    public static Specification<Issue> matching(Long idSprint, Long assignee, Integer status, boolean open, String team,
+                                                String issueType, Date dueFrom, Date dueTo) {
+        return hasSprint(idSprint)
+                .and(hasAssignee(assignee))
+                .and(hasStatus(status))
+                .and(isOpen(open))
+                .and(hasTeam(team))
+                .and(hasIssueType(issueType))
+                .and(dueBetween(dueFrom, dueTo));
+    }
+
+    // Seek past the last row of the previous page, in (dueDate, issueId) order with undated issues
+    // last, which is how Oracle sorts nulls in ascending order
+    public static Specification<Issue> after(Date dueDate, Long issueId) {
+        return (root, query, cb) -> {
+            if (dueDate == null) {
+                return cb.and(cb.isNull(root.get("dueDate")), cb.greaterThan(root.get("issueId"), issueId));
+            }
+            return cb.or(
+                    cb.greaterThan(root.get("dueDate"), dueDate),
+                    cb.and(cb.equal(root.get("dueDate"), dueDate), cb.greaterThan(root.get("issueId"), issueId)),
+                    cb.isNull(root.get("dueDate")));
+        };
+    }
+}
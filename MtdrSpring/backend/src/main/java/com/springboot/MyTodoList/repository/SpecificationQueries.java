@@ -0,0 +1,55 @@
+package com.springboot.MyTodoList.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/*
+    Runs a Specification with a row limit and no count query, for keyset
+    (seek) pagination where the next page starts after the last row seen.
+ */
+final class SpecificationQueries {
+
+    private SpecificationQueries() {
+    }
+
+    static <T> List<T> findFirst(EntityManager entityManager, Class<T> type, Specification<T> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(type);
+        Root<T> root = where(query.from(type), query, cb, spec);
+        query.select(root).orderBy(toOrders(sort, root, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    // Same, selecting only the given attributes into the constructor of resultType, so columns
+    // the caller does not need are never read
+    static <T, R> List<R> findFirst(EntityManager entityManager, Class<T> type, Class<R> resultType, String[] attributes,
+                                    Specification<T> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<R> query = cb.createQuery(resultType);
+        Root<T> root = where(query.from(type), query, cb, spec);
+        Selection<?>[] selections = new Selection<?>[attributes.length];
+        for (int i = 0; i < attributes.length; i++) {
+            selections[i] = root.get(attributes[i]);
+        }
+        query.select(cb.construct(resultType, selections)).orderBy(toOrders(sort, root, cb));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static <T> Root<T> where(Root<T> root, CriteriaQuery<?> query, CriteriaBuilder cb, Specification<T> spec) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return root;
+    }
+}
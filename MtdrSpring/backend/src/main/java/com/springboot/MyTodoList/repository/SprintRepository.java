@@ -1,10 +1,28 @@
 package com.springboot.MyTodoList.repository;
 
+import com.springboot.MyTodoList.dto.SprintSummary;
+import com.springboot.MyTodoList.dto.SprintVelocity;
 import com.springboot.MyTodoList.model.Sprint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
-    // Additional query methods can be defined here if needed
+    // Every sprint with the first 200 characters of its goal
+    @Query("SELECT s.idSprint AS idSprint, s.startDate AS startDate, s.endDate AS endDate, " +
+            "SUBSTRING(s.sprintGoal, 1, 200) AS sprintGoal FROM Sprint s ORDER BY s.idSprint")
+    List<SprintSummary> findAllSummaries();
+
+    // Planned and completed work of every sprint, oldest first; sprints without issues count zero
+    @Query("SELECT s.idSprint AS idSprint, s.startDate AS startDate, s.endDate AS endDate, COUNT(i.issueId) AS issues, " +
+            "COALESCE(SUM(CASE WHEN i.status = 1 THEN 1 ELSE 0 END), 0) AS completedIssues, " +
+            "COALESCE(SUM(i.estimation), 0) AS estimation, " +
+            "COALESCE(SUM(CASE WHEN i.status = 1 THEN i.estimation ELSE 0 END), 0) AS completedEstimation, " +
+            "COALESCE(SUM(i.hoursWorked), 0) AS hoursWorked " +
+            "FROM Sprint s LEFT JOIN Issue i ON i.idSprint = s.idSprint " +
+            "GROUP BY s.idSprint, s.startDate, s.endDate ORDER BY s.startDate, s.idSprint")
+    List<SprintVelocity> findVelocity();
 } 
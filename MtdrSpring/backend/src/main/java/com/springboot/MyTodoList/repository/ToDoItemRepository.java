@@ -2,7 +2,10 @@ package com.springboot.MyTodoList.repository;
 
 import com.springboot.MyTodoList.repository.ToDoItemRepository;
 import com.springboot.MyTodoList.model.ToDoItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -13,4 +16,7 @@ import javax.transaction.Transactional;
 @EnableTransactionManagement
 public interface ToDoItemRepository extends JpaRepository<ToDoItem,Integer> {
 
+    // One page of the list, active items first; a Slice needs no count query
+    @Query("SELECT t FROM ToDoItem t ORDER BY t.done, t.ID")
+    Slice<ToDoItem> findPage(Pageable pageable);
 }
@@ -1,13 +1,27 @@
 package com.springboot.MyTodoList.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.springboot.MyTodoList.dto.UserChatId;
+import com.springboot.MyTodoList.dto.UserSummary;
 import com.springboot.MyTodoList.model.User;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByUserId(String userId); // Método para buscar un usuario por su userId
     User findByTelegramId(Long telegramId);
+
+    // Telegram chat of several users in one round trip
+    @Query("SELECT u.userId AS userId, u.telegramId AS telegramId FROM User u WHERE u.userId IN :userIds AND u.telegramId IS NOT NULL")
+    List<UserChatId> findChatIdsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT u.userId AS userId, u.userName AS userName, u.userRol AS userRol FROM User u ORDER BY u.userId")
+    List<UserSummary> findAllSummaries();
 } 
 
@@ -13,6 +13,8 @@ public class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
     @Override
     protected void configure(HttpSecurity httpSecurity) throws Exception {
         httpSecurity.csrf().disable();
+        // Telegram cannot log in: the webhook checks its secret token itself, the fake API only runs locally
+        httpSecurity.authorizeRequests().antMatchers("/telegram/webhook", "/fake-telegram/**").permitAll();
         httpSecurity.authorizeRequests().anyRequest().authenticated().and().
                 formLogin().and().logout().permitAll();
     }
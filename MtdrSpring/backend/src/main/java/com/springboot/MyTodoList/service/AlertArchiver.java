@@ -0,0 +1,93 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.repository.AlertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/*
+    Keeps the ALERT table proportional to live work. SENT and CANCELLED alerts
+    older than the retention period are moved to ALERT_ARCHIVE in bounded
+    batches, each one a set-based INSERT ... SELECT plus DELETE in its own
+    short transaction. Replicas can run it concurrently: rows are locked with
+    SKIP LOCKED, so each batch is moved by exactly one of them.
+ */
+@Service
+public class AlertArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertArchiver.class);
+
+    // Oracle accepts at most 1000 expressions in an IN list
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${alerts.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${alerts.archive.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${alerts.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${alerts.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Move old terminal alerts to the archive. A run stops after maxBatchesPerRun batches; the rest waits for the next run.
+    @Scheduled(initialDelayString = "${alerts.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${alerts.archive.interval-ms:3600000}")
+    public void archiveOldAlerts() {
+        if (!enabled) {
+            return;
+        }
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(retentionDays);
+        int size = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff, size));
+                total += moved;
+                if (moved < size) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Alert archiving stopped after " + total + " alerts: " + e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            logger.info("Archived " + total + " alerts scheduled before " + cutoff);
+        }
+    }
+
+    private int archiveBatch(OffsetDateTime cutoff, int size) {
+        List<Long> ids = alertRepository.lockArchivableAlertIds(cutoff, size);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        alertRepository.copyAlertsToArchive(ids);
+        alertRepository.deleteAlertsByIds(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,112 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.Alert;
+import com.springboot.MyTodoList.repository.AlertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    Fires alerts at their SCHEDULED_TIME. Upcoming alerts are loaded from a
+    bounded look-ahead window into the AlertTimer, which is checked every tick,
+    so no full scan of PENDING alerts is needed. Every replica runs its own
+    timer; AlertLeaseService makes sure only one of them sends each alert.
+ */
+@Service
+public class AlertDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertDispatcher.class);
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private AlertTimer alertTimer;
+
+    @Autowired
+    private AlertLeaseService alertLeaseService;
+
+    @Autowired
+    private TelegramDeliveryService telegramDeliveryService;
+
+    @Value("${alerts.dispatch.batch-size:100}")
+    private int batchSize;
+
+    @Value("${alerts.dispatch.lookahead-minutes:60}")
+    private long lookaheadMinutes;
+
+    @Value("${alerts.digest.enabled:false}")
+    private boolean digestEnabled;
+
+    @Value("${alerts.digest.window-seconds:60}")
+    private long digestWindowSeconds;
+
+    // Due alerts waiting for the digest window to close; only touched by the dispatch tick
+    private final List<Long> heldIds = new ArrayList<>();
+    private OffsetDateTime heldSince;
+
+    // Load alerts due within the look-ahead window into the timer
+    @Scheduled(fixedDelayString = "${alerts.dispatch.refresh-ms:300000}")
+    public void refreshWindow() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime until = now.plusMinutes(lookaheadMinutes);
+        alertTimer.extendWindow(until);
+
+        // Alerts that are already overdue are left to sweepDueAlerts
+        for (Alert alert : alertRepository.findAlertsBetweenDates(now, until)) {
+            if ("PENDING".equals(alert.getStatus())) {
+                alertTimer.schedule(alert.getId(), alert.getScheduledTime());
+            }
+        }
+        logger.debug("Alert window loaded until " + until + ", " + alertTimer.size() + " alerts scheduled");
+    }
+
+    // Send every alert whose scheduled time has been reached. With digests enabled, due alerts are
+    // held for the digest window first so alerts of the same user that come due close together are coalesced.
+    @Scheduled(fixedDelayString = "${alerts.dispatch.tick-ms:1000}")
+    public void dispatchDueAlerts() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Long> dueIds = alertTimer.pollDue(now);
+        if (digestEnabled) {
+            if (heldIds.isEmpty() && !dueIds.isEmpty()) {
+                heldSince = now;
+            }
+            heldIds.addAll(dueIds);
+            if (heldIds.isEmpty() || now.isBefore(heldSince.plusSeconds(digestWindowSeconds))) {
+                return;
+            }
+            dueIds = new ArrayList<>(heldIds);
+            heldIds.clear();
+        }
+        for (int from = 0; from < dueIds.size(); from += batchSize) {
+            List<Long> batch = dueIds.subList(from, Math.min(from + batchSize, dueIds.size()));
+            // Like the sweep, only claim what the delivery pipeline can take; the rest is retried on a later tick
+            if (telegramDeliveryService.remainingCapacity() < batch.size()) {
+                for (Long id : dueIds.subList(from, dueIds.size())) {
+                    alertTimer.schedule(id, now.plusSeconds(1));
+                }
+                logger.debug("Delivery queue full, " + (dueIds.size() - from) + " due alerts postponed");
+                return;
+            }
+            // Alerts already claimed by another replica, or no longer deliverable, are not returned
+            alertService.sendClaimedAlerts(alertLeaseService.claimDueAlerts(batch));
+        }
+    }
+
+    // Pick up due alerts this replica's timer does not know about, e.g. alerts created
+    // on another replica that went away before sending them
+    @Scheduled(fixedDelayString = "${alerts.dispatch.sweep-ms:10000}")
+    public void sweepDueAlerts() {
+        alertService.sendScheduledAlerts();
+    }
+}
@@ -0,0 +1,125 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.Alert;
+import com.springboot.MyTodoList.repository.AlertRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/*
+    Claims alerts for this replica so that several pods can dispatch alerts
+    without sending any of them twice. A claim locks the rows with
+    SELECT ... FOR UPDATE SKIP LOCKED and stamps them with a lease that other
+    replicas respect until it expires. Leases of alerts still waiting in the
+    delivery queue are renewed, so a slow, rate-limited queue does not let
+    another replica claim and send them again. It also keeps the delivery
+    ledger of each alert: attempt count, next attempt time and last error.
+ */
+@Service
+public class AlertLeaseService {
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Value("${alerts.dispatch.instance-id:${HOSTNAME:local}}")
+    private String instanceId;
+
+    @Value("${alerts.dispatch.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${alerts.delivery.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${alerts.delivery.backoff-seconds:30}")
+    private long backoffSeconds;
+
+    @Value("${alerts.delivery.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    private String owner;
+    // Alerts leased by this replica whose delivery has not been recorded yet
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        owner = instanceId + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    // Claim up to batchSize alerts that were due at the given time
+    @Transactional
+    public List<Alert> claimDueAlerts(int batchSize, OffsetDateTime dueAt) {
+        return lease(alertRepository.lockDueAlerts(dueAt, batchSize));
+    }
+
+    // Claim the given alerts if they are due and unclaimed
+    @Transactional
+    public List<Alert> claimDueAlerts(List<Long> ids) {
+        return lease(alertRepository.lockDueAlertsByIds(ids, OffsetDateTime.now()));
+    }
+
+    // Mark claimed alerts as SENT, releasing their lease
+    @Transactional
+    public int markSent(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        inFlight.removeAll(ids);
+        return alertRepository.markLeasedAlertsSent(ids, owner);
+    }
+
+    // Keep the leases of queued alerts alive; runs several times per lease period
+    @Scheduled(fixedDelayString = "${alerts.dispatch.lease-renew-ms:20000}")
+    @Transactional
+    public void renewLeases() {
+        List<Long> ids = new ArrayList<>(inFlight);
+        // Oracle accepts at most 1000 expressions in an IN list
+        for (int from = 0; from < ids.size(); from += 1000) {
+            alertRepository.renewLeases(ids.subList(from, Math.min(from + 1000, ids.size())), owner, leaseSeconds);
+        }
+    }
+
+    // Record a failed attempt on a claimed alert. It is retried with exponential backoff
+    // until maxAttempts is reached, then it is marked DEAD. Returns the next attempt time, or null if DEAD.
+    @Transactional
+    public OffsetDateTime recordFailure(Alert alert, String error) {
+        inFlight.remove(alert.getId());
+        int attempts = (alert.getAttemptCount() == null ? 0 : alert.getAttemptCount()) + 1;
+        String lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            alertRepository.recordLeasedAlertFailure(alert.getId(), owner, "DEAD", attempts, null, lastError);
+            return null;
+        }
+        long backoff = Math.min(maxBackoffSeconds, backoffSeconds << Math.min(attempts - 1, 30));
+        OffsetDateTime nextAttemptAt = OffsetDateTime.now().plusSeconds(backoff);
+        alertRepository.recordLeasedAlertFailure(alert.getId(), owner, "FAILED", attempts, nextAttemptAt, lastError);
+        return nextAttemptAt;
+    }
+
+    private List<Alert> lease(List<Alert> locked) {
+        if (locked.isEmpty()) {
+            return locked;
+        }
+        List<Long> ids = locked.stream().map(Alert::getId).collect(Collectors.toList());
+        alertRepository.leaseAlerts(ids, owner, leaseSeconds);
+        for (Alert alert : locked) {
+            alert.setLeaseOwner(owner);
+        }
+        inFlight.addAll(ids);
+        return locked;
+    }
+}
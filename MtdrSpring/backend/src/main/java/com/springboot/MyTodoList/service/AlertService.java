@@ -1,103 +1,228 @@
 package com.springboot.MyTodoList.service;
 
 import com.springboot.MyTodoList.model.Alert;
-import com.springboot.MyTodoList.model.User;
+import com.springboot.MyTodoList.model.ArchivedAlert;
 import com.springboot.MyTodoList.repository.AlertRepository;
+import com.springboot.MyTodoList.repository.AlertSpecifications;
+import com.springboot.MyTodoList.repository.ArchivedAlertRepository;
 import com.springboot.MyTodoList.repository.UserRepository;
+import com.springboot.MyTodoList.util.AlertMessages;
+import com.springboot.MyTodoList.util.AlertPriority;
+import com.springboot.MyTodoList.util.KeysetCursor;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 public class AlertService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AlertService.class);
+
     @Autowired
     private AlertRepository alertRepository;
     
     @Autowired
     private UserRepository userRepository;
-    
-    private final RestTemplate restTemplate = new RestTemplate();
-    
-    @Value("${telegram.bot.token}")
-    private String botToken;
+
+    @Autowired
+    private AlertTimer alertTimer;
+
+    @Autowired
+    private AlertLeaseService alertLeaseService;
+
+    @Autowired
+    private TelegramDeliveryService telegramDeliveryService;
+
+    @Autowired
+    private UserChatIdCache userChatIdCache;
+
+    @Autowired
+    private ArchivedAlertRepository archivedAlertRepository;
+
+    @Value("${alerts.dispatch.batch-size:100}")
+    private int claimBatchSize;
+
+    @Value("${alerts.digest.enabled:false}")
+    private boolean digestEnabled;
+
+    @Value("${alerts.digest.window-seconds:60}")
+    private long digestWindowSeconds;
 
     public AlertService(AlertRepository alertRepository, UserRepository userRepository) {
         this.alertRepository = alertRepository;
         this.userRepository = userRepository;
     }
 
-    @Scheduled(fixedRate = 3600000) // Ejecuta cada hora
+    // Send every PENDING alert that is already due and not claimed by another replica.
+    // Regular delivery is driven by AlertDispatcher.
+    // Only claims as many alerts as the delivery pipeline can take, so claimed alerts are sent before their lease expires.
     public void sendScheduledAlerts() {
-        List<Alert> pendingAlerts = alertRepository.findByStatus("PENDING");
-        for (Alert alert : pendingAlerts) {
-            sendNotification(alert);
-            alert.setStatus("SENT");
-            alertRepository.save(alert);
+        // Alerts inside the digest window are left to AlertDispatcher so they can still be coalesced
+        OffsetDateTime dueAt = digestEnabled ? OffsetDateTime.now().minusSeconds(digestWindowSeconds) : OffsetDateTime.now();
+        while (telegramDeliveryService.remainingCapacity() >= claimBatchSize) {
+            List<Alert> claimed = alertLeaseService.claimDueAlerts(claimBatchSize, dueAt);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            sendClaimedAlerts(claimed);
         }
     }
 
-    public void sendNotification(Alert alert) {
-        String userId = alert.getUserId();
-        if (userId == null) {
-            System.out.println("El userId es nulo para la alerta: " + alert.getId());
-            return;
+    // Queue alerts claimed by this replica for delivery. Once the batch has been handed to Telegram,
+    // the delivered alerts are marked SENT in one statement and failed ones are scheduled for a retry.
+    // With digests enabled, several alerts for the same chat are sent as one digest message.
+    public void sendClaimedAlerts(List<Alert> claimed) {
+        Map<Long, Long> chatIds = userChatIdCache.resolve(userIdsOf(claimed));
+        List<Long> deliveredIds = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+
+        Map<Long, List<Alert>> alertsByChat = new LinkedHashMap<>();
+        for (Alert alert : claimed) {
+            alertTimer.cancel(alert.getId());
+            Long chatId = chatIds.get(parseUserId(alert.getUserId()));
+            if (chatId == null) {
+                deliveries.add(track(Collections.singletonList(alert), failed(missingChatReason(alert)), deliveredIds));
+            } else {
+                alertsByChat.computeIfAbsent(chatId, id -> new ArrayList<>()).add(alert);
+            }
+        }
+        for (Map.Entry<Long, List<Alert>> chat : alertsByChat.entrySet()) {
+            List<Alert> alerts = chat.getValue();
+            if (digestEnabled && alerts.size() > 1) {
+                // Every message of the digest is tracked on its own, so a failed one only retries the alerts it carried.
+                // All go to one chat at one priority, a lane that TelegramDeliveryService sends one message at a time,
+                // so they arrive in sequence.
+                AlertPriority priority = highestPriority(alerts);
+                for (List<Alert> group : AlertMessages.digestGroups(alerts)) {
+                    String text = group.size() == 1 ? AlertMessages.single(group.get(0)) : AlertMessages.digest(group);
+                    deliveries.add(track(group, telegramDeliveryService.send(chat.getKey(), text, priority), deliveredIds));
+                }
+            } else {
+                for (Alert alert : alerts) {
+                    deliveries.add(track(Collections.singletonList(alert),
+                            telegramDeliveryService.send(chat.getKey(), AlertMessages.single(alert),
+                                    AlertPriority.of(alert.getPriority())), deliveredIds));
+                }
+            }
+        }
+        CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> alertLeaseService.markSent(new ArrayList<>(deliveredIds)));
+    }
+
+    // Record the outcome of a delivery for every alert it carried
+    private CompletableFuture<Void> track(List<Alert> alerts, CompletableFuture<Void> delivery, List<Long> deliveredIds) {
+        return delivery.handle((ignored, error) -> {
+            for (Alert alert : alerts) {
+                if (error == null) {
+                    deliveredIds.add(alert.getId());
+                } else {
+                    recordFailure(alert, error);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static AlertPriority highestPriority(List<Alert> alerts) {
+        AlertPriority highest = AlertPriority.LOW;
+        for (Alert alert : alerts) {
+            AlertPriority priority = AlertPriority.of(alert.getPriority());
+            if (priority.compareTo(highest) < 0) {
+                highest = priority;
+            }
+        }
+        return highest;
+    }
+
+    // Distinct numeric user ids of a batch of alerts
+    private static Set<Long> userIdsOf(List<Alert> alerts) {
+        Set<Long> userIds = new HashSet<>();
+        for (Alert alert : alerts) {
+            Long userId = parseUserId(alert.getUserId());
+            if (userId != null) {
+                userIds.add(userId);
+            }
         }
-        
-        // Convertir userId a Long para buscar en la base de datos
-        Long userIdLong;
+        return userIds;
+    }
+
+    private static Long parseUserId(String userId) {
         try {
-            userIdLong = Long.parseLong(userId);
+            return userId == null ? null : Long.parseLong(userId);
         } catch (NumberFormatException e) {
-            System.out.println("Error al convertir userId a Long: " + userId);
-            return;
+            return null;
         }
-        
-        // Buscar el usuario en la base de datos
-        Optional<User> userOptional = userRepository.findById(userIdLong);
-        if (!userOptional.isPresent()) {
-            System.out.println("No se encontró usuario con ID: " + userId);
-            return;
+    }
+
+    private void recordFailure(Alert alert, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.warn("Error al enviar la alerta " + alert.getId() + ": " + cause.getMessage(), cause);
+        OffsetDateTime nextAttemptAt = alertLeaseService.recordFailure(alert, cause.getMessage());
+        if (nextAttemptAt != null) {
+            alertTimer.schedule(alert.getId(), nextAttemptAt);
         }
-        
-        User user = userOptional.get();
-        Long telegramId = user.getTelegramId();
-        
+    }
+
+    // Send the alert to the user's Telegram chat. The returned future fails if the alert cannot be delivered.
+    public CompletableFuture<Void> sendNotification(Alert alert) {
+        Long userId = parseUserId(alert.getUserId());
+        Long telegramId = userId == null ? null : userChatIdCache.resolve(Collections.singleton(userId)).get(userId);
         if (telegramId == null) {
-            System.out.println("El usuario " + userId + " no tiene Telegram ID configurado");
-            return;
+            return failed(missingChatReason(alert));
         }
-        
-        String chatId = telegramId.toString();
-    
-        // Formatear el mensaje que se enviará al usuario
-        String message = "Tienes una nueva alerta:\n\n" +
-                         "Tarea: " + alert.getTask() + "\n" +
-                         "Descripción: " + alert.getMessage() + "\n" +
-                         "Prioridad: " + alert.getPriority() + "\n" +
-                         "Fecha programada: " + alert.getScheduledTime().toString();
-    
-        // URL para enviar el mensaje a través de la API de Telegram
-        String url = "https://api.telegram.org/bot" + botToken + "/sendMessage?chat_id=" + chatId + "&text=" + message;
-    
         // Enviar el mensaje a través de la API de Telegram
-        try {
-            restTemplate.getForObject(url, String.class);
-            System.out.println("Mensaje enviado con éxito al usuario " + userId + " con chatId " + chatId);
-        } catch (Exception e) {
-            System.out.println("Error al enviar mensaje a Telegram: " + e.getMessage());
+        return telegramDeliveryService.send(telegramId, AlertMessages.single(alert), AlertPriority.of(alert.getPriority()));
+    }
+
+    private static String missingChatReason(Alert alert) {
+        String userId = alert.getUserId();
+        if (userId == null) {
+            return "El userId es nulo para la alerta: " + alert.getId();
+        }
+        if (parseUserId(userId) == null) {
+            return "Error al convertir userId a Long: " + userId;
         }
+        return "No se encontró usuario con ID " + userId + " o no tiene Telegram ID configurado";
+    }
+
+    private static CompletableFuture<Void> failed(String reason) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        result.completeExceptionally(new IllegalStateException(reason));
+        return result;
     }
 
     // Method to create an alert
     public Alert createAlert(String message, Long taskId, String task, Long projectId, String userId, String priority, OffsetDateTime scheduledTime) {
+        return createAlert(message, taskId, task, projectId, userId, priority, scheduledTime, null);
+    }
+
+    // Create an alert once per idempotency key: retrying with the same key returns the alert created the first time
+    public Alert createAlert(String message, Long taskId, String task, Long projectId, String userId, String priority,
+                             OffsetDateTime scheduledTime, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Alert existing = alertRepository.findByIdempotencyKey(idempotencyKey);
+            if (existing != null) {
+                return existing;
+            }
+        }
         Alert alert = new Alert();
         alert.setMessage(message);
         alert.setTaskId(taskId);
@@ -107,8 +232,12 @@ public class AlertService {
         alert.setPriority(priority);
         alert.setScheduledTime(scheduledTime);
         alert.setStatus("PENDING");
+        alert.setAttemptCount(0);
+        alert.setIdempotencyKey(idempotencyKey != null ? idempotencyKey : UUID.randomUUID().toString());
 
-        return alertRepository.save(alert);
+        Alert savedAlert = alertRepository.save(alert);
+        alertTimer.schedule(savedAlert.getId(), savedAlert.getScheduledTime());
+        return savedAlert;
     }
 
     // Method to find all alerts based on status (e.g., PENDING, SENT)
@@ -116,6 +245,44 @@ public class AlertService {
         return alertRepository.findByStatus(status);
     }
 
+    // Method to find an alert by its primary key, whatever its status
+    public Optional<Alert> getAlertById(Long id) {
+        return alertRepository.findById(id);
+    }
+
+    // One page of alerts matching every given filter, in (scheduledTime, id) order, starting after the cursor
+    public List<Alert> searchAlerts(String userId, String priority, String status, Long taskId,
+                                    OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return alertRepository.findFirst(pageSpec(userId, priority, status, taskId, from, to, after),
+                Sort.by("scheduledTime", "id"), limit);
+    }
+
+    // Same as searchAlerts, over alerts already moved to the archive
+    public List<ArchivedAlert> searchArchivedAlerts(String userId, String priority, String status, Long taskId,
+                                                    OffsetDateTime from, OffsetDateTime to, KeysetCursor after, int limit) {
+        return archivedAlertRepository.findFirst(pageSpec(userId, priority, status, taskId, from, to, after),
+                Sort.by("scheduledTime", "id"), limit);
+    }
+
+    private static <T> Specification<T> pageSpec(String userId, String priority, String status, Long taskId,
+                                                 OffsetDateTime from, OffsetDateTime to, KeysetCursor after) {
+        Specification<T> spec = AlertSpecifications.matching(userId, priority, status, taskId, from, to);
+        if (after != null) {
+            spec = spec.and(AlertSpecifications.after(
+                    after.getSortKey() == null ? null : OffsetDateTime.parse(after.getSortKey()), after.getId()));
+        }
+        return spec;
+    }
+
+    // Cursor pointing after the given alert; alerts without a scheduled time have no sort key
+    public static KeysetCursor cursorAfter(Alert alert) {
+        return new KeysetCursor(alert.getScheduledTime() == null ? null : alert.getScheduledTime().toString(), alert.getId());
+    }
+
+    public static KeysetCursor cursorAfter(ArchivedAlert alert) {
+        return new KeysetCursor(alert.getScheduledTime() == null ? null : alert.getScheduledTime().toString(), alert.getId());
+    }
+
     // Method to find alerts by user ID
     public List<Alert> getAlertsByUserId(String userId) {
         return alertRepository.findByUserId(userId);
@@ -130,12 +297,19 @@ public class AlertService {
     public Alert updateAlertStatus(Long id, String status) throws Exception {
         Alert alert = alertRepository.findById(id).orElseThrow(() -> new Exception("Alert not found"));
         alert.setStatus(status);
-        return alertRepository.save(alert);
+        Alert savedAlert = alertRepository.save(alert);
+        if ("PENDING".equals(status)) {
+            alertTimer.schedule(savedAlert.getId(), savedAlert.getScheduledTime());
+        } else {
+            alertTimer.cancel(savedAlert.getId());
+        }
+        return savedAlert;
     }
 
     public Boolean deleteAlert(Long id) {
         try {
             alertRepository.deleteById(id);
+            alertTimer.cancel(id);
             return true;
         } catch (Exception e) {
             return false;
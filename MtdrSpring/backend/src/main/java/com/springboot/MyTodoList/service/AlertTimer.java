@@ -0,0 +1,87 @@
+package com.springboot.MyTodoList.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/*
+    In-memory queue of upcoming alerts ordered by their SCHEDULED_TIME.
+    Only alerts inside the loaded look-ahead window are kept here; anything
+    scheduled later is picked up when the window is extended.
+ */
+@Component
+public class AlertTimer {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    // Current due time of every scheduled alert, used to drop stale queue entries
+    private final Map<Long, Long> dueById = new HashMap<>();
+    private long windowEnd = Long.MIN_VALUE;
+
+    // Schedule (or reschedule) an alert if it falls inside the loaded window
+    public synchronized void schedule(Long alertId, OffsetDateTime scheduledTime) {
+        if (alertId == null || scheduledTime == null) {
+            return;
+        }
+        long due = scheduledTime.toInstant().toEpochMilli();
+        if (due > windowEnd) {
+            dueById.remove(alertId);
+            return;
+        }
+        Long previous = dueById.put(alertId, due);
+        if (previous == null || previous != due) {
+            queue.add(new Entry(due, alertId));
+        }
+    }
+
+    // Remove an alert from the timer; its queue entry is discarded lazily
+    public synchronized void cancel(Long alertId) {
+        if (alertId != null) {
+            dueById.remove(alertId);
+        }
+    }
+
+    // Extend the window so alerts scheduled up to the given time are accepted
+    public synchronized void extendWindow(OffsetDateTime until) {
+        windowEnd = Math.max(windowEnd, until.toInstant().toEpochMilli());
+    }
+
+    // Remove and return the ids of every alert due at or before the given time
+    public synchronized List<Long> pollDue(OffsetDateTime now) {
+        long nowMillis = now.toInstant().toEpochMilli();
+        List<Long> due = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().due <= nowMillis) {
+            Entry entry = queue.poll();
+            Long current = dueById.get(entry.alertId);
+            if (current != null && current == entry.due) {
+                dueById.remove(entry.alertId);
+                due.add(entry.alertId);
+            }
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return dueById.size();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final long due;
+        private final Long alertId;
+
+        private Entry(long due, Long alertId) {
+            this.due = due;
+            this.alertId = alertId;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byDue = Long.compare(due, other.due);
+            return byDue != 0 ? byDue : alertId.compareTo(other.alertId);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.springboot.MyTodoList.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.telegram.telegrambots.meta.api.objects.CallbackQuery;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Runs bot updates off the Telegram session thread. Updates are sharded by
+    chat onto single-threaded workers: the updates of one chat are handled in
+    the order they arrived, while different chats run in parallel, so one slow
+    request only delays the chats that share its shard.
+
+    Each shard has a bounded queue. When it is full the session thread waits
+    for room, which stops it from fetching more updates; Telegram keeps them
+    until we ask again. Webhook updates cannot be held back that way, so they
+    wait at most the submit timeout and are refused when there is still no
+    room; the webhook answers with an error and Telegram delivers them again.
+ */
+@Component
+public class BotUpdateExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(BotUpdateExecutor.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 means one worker per available processor
+    @Value("${bot.updates.workers:0}")
+    private int workers;
+
+    @Value("${bot.updates.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${bot.updates.submit-timeout-ms:1000}")
+    private long submitTimeoutMs;
+
+    private Shard[] shards;
+    private Counter rejected;
+
+    @PostConstruct
+    public void start() {
+        int count = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(queueCapacity, "bot-updates-" + i);
+            shards[i].thread.start();
+        }
+        Gauge.builder("bot.updates.queue.depth", this, BotUpdateExecutor::queued)
+                .description("Bot updates waiting for a worker")
+                .register(meterRegistry);
+        rejected = Counter.builder("bot.updates.rejected")
+                .description("Webhook updates refused because their shard stayed full")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        for (Shard shard : shards) {
+            shard.thread.interrupt();
+        }
+    }
+
+    // Queue the handling of an update behind the earlier updates of the same chat,
+    // waiting as long as it takes for room in the chat's shard
+    public void submit(Update update, Runnable handler) {
+        try {
+            shardOf(update).queue.put(handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Like submit, but gives up after the submit timeout. Returns false if the update was not queued.
+    public boolean trySubmit(Update update, Runnable handler) {
+        Shard shard = shardOf(update);
+        try {
+            if (shard.queue.offer(handler, submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        rejected.increment();
+        logger.warn("Bot update " + update.getUpdateId() + " refused, " + shard.thread.getName() + " is full");
+        return false;
+    }
+
+    private Shard shardOf(Update update) {
+        return shards[(int) Math.floorMod(mix(chatKey(update)), (long) shards.length)];
+    }
+
+    private int queued() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.queue.size();
+        }
+        return total;
+    }
+
+    // The chat an update belongs to, or the sender when it has no chat (e.g. inline queries)
+    static long chatKey(Update update) {
+        if (update.hasMessage()) {
+            return update.getMessage().getChatId();
+        }
+        if (update.hasEditedMessage()) {
+            return update.getEditedMessage().getChatId();
+        }
+        if (update.hasCallbackQuery()) {
+            CallbackQuery query = update.getCallbackQuery();
+            return query.getMessage() != null ? query.getMessage().getChatId() : query.getFrom().getId();
+        }
+        if (update.hasInlineQuery()) {
+            return update.getInlineQuery().getFrom().getId();
+        }
+        return update.getUpdateId();
+    }
+
+    // Spread sequential chat ids evenly over the shards
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        return key ^ (key >>> 33);
+    }
+
+    private static final class Shard implements Runnable {
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+
+        private Shard(int capacity, String name) {
+            queue = new ArrayBlockingQueue<>(capacity);
+            thread = new Thread(this, name);
+            thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                Runnable task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.error("Error handling bot update: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.util.ChatSession;
+import com.springboot.MyTodoList.util.LongLruMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    In-memory state of multi-step bot conversations, one session per chat.
+    Sessions expire after a period of inactivity and the least recently used
+    ones are evicted when the store is full. Optionally the store is written
+    to a snapshot file periodically and on shutdown and read back on startup,
+    so open conversations survive a restart without touching the database on
+    every step.
+ */
+@Component
+public class ChatSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChatSessionStore.class);
+    private static final int SNAPSHOT_VERSION = 1;
+
+    @Value("${bot.sessions.max-size:10000}")
+    private int maxSize;
+
+    @Value("${bot.sessions.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    @Value("${bot.sessions.snapshot-file:}")
+    private String snapshotFile;
+
+    private LongLruMap<ChatSession> sessions;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        sessions = new LongLruMap<>(maxSize);
+        if (!snapshotFile.isEmpty()) {
+            load(Paths.get(snapshotFile));
+        }
+    }
+
+    // The active session of the chat, or null if it has none or it expired
+    public ChatSession get(long chatId) {
+        return sessions.get(chatId, System.currentTimeMillis());
+    }
+
+    // Start a new flow for the chat, replacing any session it had
+    public ChatSession start(long chatId, String flow, String step) {
+        ChatSession session = new ChatSession(flow, step);
+        save(chatId, session);
+        return session;
+    }
+
+    // Store a session after one of its steps and restart its inactivity timeout
+    public void save(long chatId, ChatSession session) {
+        sessions.put(chatId, session, expiresAt());
+        dirty.set(true);
+    }
+
+    public void end(long chatId) {
+        sessions.remove(chatId);
+        dirty.set(true);
+    }
+
+    // Drop expired sessions and, if enabled, write the snapshot when something changed
+    @Scheduled(fixedDelayString = "${bot.sessions.snapshot-ms:60000}")
+    public void maintain() {
+        if (sessions.removeExpired(System.currentTimeMillis()) > 0) {
+            dirty.set(true);
+        }
+        if (!snapshotFile.isEmpty() && dirty.getAndSet(false)) {
+            snapshot(Paths.get(snapshotFile));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!snapshotFile.isEmpty()) {
+            snapshot(Paths.get(snapshotFile));
+        }
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    // Expiry times are wall-clock millis so they stay meaningful across restarts
+    private void snapshot(Path path) {
+        List<Object[]> entries = new ArrayList<>();
+        sessions.forEach((chatId, session, expiresAt) -> entries.add(new Object[]{chatId, session, expiresAt}));
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(entries.size());
+                for (Object[] entry : entries) {
+                    ChatSession session = (ChatSession) entry[1];
+                    Map<String, String> data = session.copyData();
+                    out.writeLong((Long) entry[0]);
+                    out.writeLong((Long) entry[2]);
+                    out.writeUTF(session.getFlow());
+                    out.writeUTF(session.getStep());
+                    out.writeInt(data.size());
+                    for (Map.Entry<String, String> field : data.entrySet()) {
+                        out.writeUTF(field.getKey());
+                        out.writeUTF(field.getValue());
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Wrote " + entries.size() + " chat sessions to " + path);
+        } catch (IOException e) {
+            logger.error("Error writing chat session snapshot " + path + ": " + e.getMessage());
+        }
+    }
+
+    private void load(Path path) {
+        if (!Files.exists(path)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int loaded = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                logger.warn("Ignoring chat session snapshot " + path + " with unknown version");
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long chatId = in.readLong();
+                long expiresAt = in.readLong();
+                ChatSession session = new ChatSession(in.readUTF(), in.readUTF());
+                int fields = in.readInt();
+                for (int f = 0; f < fields; f++) {
+                    session.put(in.readUTF(), in.readUTF());
+                }
+                // Written least recently used first, so the LRU order is restored as well
+                if (expiresAt > now) {
+                    sessions.put(chatId, session, expiresAt);
+                    loaded++;
+                }
+            }
+            logger.info("Restored " + loaded + " chat sessions from " + path);
+        } catch (IOException e) {
+            logger.error("Error reading chat session snapshot " + path + ": " + e.getMessage());
+        }
+    }
+}
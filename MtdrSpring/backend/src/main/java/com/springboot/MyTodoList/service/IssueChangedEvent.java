@@ -0,0 +1,33 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.Issue;
+
+/*
+    Published by IssueService after an issue was created, updated or deleted.
+    before is a copy of the issue as it was (null when created) and after is
+    the saved issue (null when deleted).
+ */
+public class IssueChangedEvent {
+
+    private final Long issueId;
+    private final Issue before;
+    private final Issue after;
+
+    public IssueChangedEvent(Long issueId, Issue before, Issue after) {
+        this.issueId = issueId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Long getIssueId() {
+        return issueId;
+    }
+
+    public Issue getBefore() {
+        return before;
+    }
+
+    public Issue getAfter() {
+        return after;
+    }
+}
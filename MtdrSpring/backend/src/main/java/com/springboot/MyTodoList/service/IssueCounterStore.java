@@ -0,0 +1,163 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.dto.IssueSprintAggregate;
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.repository.IssueRepository;
+import com.springboot.MyTodoList.util.IssueCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    Live issue counters per sprint and per assignee, so questions like "open
+    issues per developer" or "hours logged this sprint" are answered without
+    scanning ISSUE. Built at startup from one GROUP BY query and then kept
+    current by applying each IssueChangedEvent as a delta: the issue's old
+    values are taken out of its old groups and its new values added to its
+    new ones. Unassigned issues and issues without a sprint are only counted
+    in the other map.
+
+    Changes made outside this process (another replica, direct SQL) are not
+    seen as deltas, so the counters are periodically rebuilt from the
+    database. A rebuild is only swapped in if no delta was applied while it
+    ran; otherwise it is retried.
+ */
+@Component
+public class IssueCounterStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueCounterStore.class);
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private volatile Groups groups = new Groups();
+    // Deltas share the read lock; swapping in a rebuild takes the write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicLong appliedDeltas = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+        logger.info("Loaded issue counters of " + groups.bySprint.size() + " sprints and "
+                + groups.byAssignee.size() + " assignees");
+    }
+
+    // Counters of the sprint, or null if it has no issues
+    public IssueCounters getSprintCounters(Long idSprint) {
+        return groups.bySprint.get(idSprint);
+    }
+
+    // Counters of the assignee, or null if they have no issues
+    public IssueCounters getAssigneeCounters(Long assignee) {
+        return groups.byAssignee.get(assignee);
+    }
+
+    public Map<Long, IssueCounters> getCountersBySprint() {
+        return Collections.unmodifiableMap(groups.bySprint);
+    }
+
+    public Map<Long, IssueCounters> getCountersByAssignee() {
+        return Collections.unmodifiableMap(groups.byAssignee);
+    }
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            Groups current = groups;
+            apply(current, event.getBefore(), -1);
+            apply(current, event.getAfter(), 1);
+            appliedDeltas.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // Compare the counters with the database and replace them if they drifted
+    @Scheduled(initialDelayString = "${issues.counters.reconcile-ms:300000}",
+            fixedDelayString = "${issues.counters.reconcile-ms:300000}")
+    public void reconcile() {
+        Groups before = groups;
+        if (rebuild() && !(sameTotals(before.bySprint, groups.bySprint) && sameTotals(before.byAssignee, groups.byAssignee))) {
+            logger.warn("Issue counters had drifted from the database and were rebuilt");
+        }
+    }
+
+    // Returns whether a rebuild was swapped in
+    private boolean rebuild() {
+        for (int attempt = 0; attempt < MAX_REBUILD_ATTEMPTS; attempt++) {
+            long startDeltas = appliedDeltas.get();
+            Groups rebuilt = new Groups();
+            for (IssueSprintAggregate row : issueRepository.aggregateAll()) {
+                if (row.getIdSprint() != null) {
+                    rebuilt.bySprint.computeIfAbsent(row.getIdSprint(), id -> new IssueCounters())
+                            .add(row.getStatus(), row.getIssues(), row.getEstimation(), row.getHoursWorked(), 1);
+                }
+                if (row.getAssignee() != null) {
+                    rebuilt.byAssignee.computeIfAbsent(row.getAssignee(), id -> new IssueCounters())
+                            .add(row.getStatus(), row.getIssues(), row.getEstimation(), row.getHoursWorked(), 1);
+                }
+            }
+            swapLock.writeLock().lock();
+            try {
+                if (appliedDeltas.get() == startDeltas) {
+                    groups = rebuilt;
+                    return true;
+                }
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+        logger.debug("Issue counters kept changing during the rebuild; retrying on the next reconciliation");
+        return false;
+    }
+
+    private static void apply(Groups groups, Issue issue, int sign) {
+        if (issue == null) {
+            return;
+        }
+        Long estimation = issue.getEstimation() == null ? null : issue.getEstimation().longValue();
+        Long hoursWorked = issue.getHoursWorked() == null ? null : issue.getHoursWorked().longValue();
+        if (issue.getIdSprint() != null) {
+            groups.bySprint.computeIfAbsent(issue.getIdSprint(), id -> new IssueCounters())
+                    .add(issue.getStatus(), 1, estimation, hoursWorked, sign);
+        }
+        if (issue.getAssignee() != null) {
+            groups.byAssignee.computeIfAbsent(issue.getAssignee(), id -> new IssueCounters())
+                    .add(issue.getStatus(), 1, estimation, hoursWorked, sign);
+        }
+    }
+
+    // Groups emptied by deltas stay in the map with zero totals, so they match groups missing from a rebuild
+    private static boolean sameTotals(Map<Long, IssueCounters> current, Map<Long, IssueCounters> rebuilt) {
+        IssueCounters empty = new IssueCounters();
+        for (Map.Entry<Long, IssueCounters> entry : current.entrySet()) {
+            if (!entry.getValue().sameTotals(rebuilt.getOrDefault(entry.getKey(), empty))) {
+                return false;
+            }
+        }
+        for (Map.Entry<Long, IssueCounters> entry : rebuilt.entrySet()) {
+            if (!current.containsKey(entry.getKey()) && !entry.getValue().sameTotals(empty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Groups {
+        final Map<Long, IssueCounters> bySprint = new ConcurrentHashMap<>();
+        final Map<Long, IssueCounters> byAssignee = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,128 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.model.IssueEvent;
+import com.springboot.MyTodoList.repository.IssueEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/*
+    Appends every change of an issue's sprint, assignee, status, estimation
+    or hours worked to ISSUE_EVENT. Changes are queued by the thread that
+    made them and inserted in batches by a scheduled flush, so a write to an
+    issue costs one queue offer instead of a second INSERT. If the queue is
+    full the writing thread flushes it itself rather than dropping history.
+ */
+@Service
+public class IssueEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueEventLog.class);
+
+    @Autowired
+    private IssueEventRepository issueEventRepository;
+
+    @Value("${issues.events.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${issues.events.batch-size:200}")
+    private int batchSize;
+
+    private BlockingQueue<IssueEvent> queue;
+    // Batch taken from the queue that could not be written yet; retried on the next flush
+    private final List<IssueEvent> batch = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        IssueEvent issueEvent = toIssueEvent(event);
+        if (issueEvent == null) {
+            return;
+        }
+        while (!queue.offer(issueEvent)) {
+            logger.warn("Issue event queue is full, flushing on the calling thread");
+            if (!flush()) {
+                logger.error("Could not write issue events; dropping the change of issue " + event.getIssueId());
+                return;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${issues.events.flush-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    // Write everything queued so far, one transaction per batch. Returns false if a batch failed.
+    private synchronized boolean flush() {
+        while (true) {
+            if (batch.isEmpty() && queue.drainTo(batch, batchSize) == 0) {
+                return true;
+            }
+            try {
+                issueEventRepository.saveAll(batch);
+            } catch (Exception e) {
+                // Ids taken from the sequence are discarded, so the batch is inserted again on the next try
+                batch.forEach(issueEvent -> issueEvent.setId(null));
+                logger.error("Error writing " + batch.size() + " issue events: " + e.getMessage());
+                return false;
+            }
+            batch.clear();
+        }
+    }
+
+    // The event to log for a change, or null if none of the tracked fields changed
+    private static IssueEvent toIssueEvent(IssueChangedEvent event) {
+        Issue before = event.getBefore();
+        Issue after = event.getAfter();
+        if (before != null && after != null
+                && Objects.equals(before.getIdSprint(), after.getIdSprint())
+                && Objects.equals(before.getAssignee(), after.getAssignee())
+                && Objects.equals(before.getStatus(), after.getStatus())
+                && Objects.equals(before.getEstimation(), after.getEstimation())
+                && Objects.equals(before.getHoursWorked(), after.getHoursWorked())) {
+            return null;
+        }
+        IssueEvent issueEvent = new IssueEvent();
+        issueEvent.setIssueId(event.getIssueId());
+        issueEvent.setEventType(before == null ? "CREATED" : after == null ? "DELETED" : "UPDATED");
+        issueEvent.setEventTime(OffsetDateTime.now());
+        if (before != null) {
+            issueEvent.setIdSprintBefore(before.getIdSprint());
+            issueEvent.setAssigneeBefore(before.getAssignee());
+            issueEvent.setStatusBefore(before.getStatus());
+            issueEvent.setEstimationBefore(before.getEstimation());
+            issueEvent.setHoursWorkedBefore(before.getHoursWorked());
+        }
+        if (after != null) {
+            issueEvent.setIdSprintAfter(after.getIdSprint());
+            issueEvent.setAssigneeAfter(after.getAssignee());
+            issueEvent.setStatusAfter(after.getStatus());
+            issueEvent.setEstimationAfter(after.getEstimation());
+            issueEvent.setHoursWorkedAfter(after.getHoursWorked());
+        }
+        return issueEvent;
+    }
+}
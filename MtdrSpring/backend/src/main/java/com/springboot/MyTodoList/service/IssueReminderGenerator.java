@@ -0,0 +1,183 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.Alert;
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.repository.AlertRepository;
+import com.springboot.MyTodoList.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/*
+    Creates reminder alerts before each open issue's due date, one per
+    configured offset (24h and 1h by default), for the issue's assignee.
+
+    Reminders are ordinary PENDING alerts, so the ALERT table ordered by
+    SCHEDULED_TIME, together with AlertTimer, is the due-date index: nothing
+    scans the issues periodically. When an issue changes, only that issue's
+    reminders are reconciled. Each reminder's idempotency key encodes the
+    issue, assignee, offset and due date, so a change of any of them replaces
+    the reminder and replicas never create it twice.
+ */
+@Service
+public class IssueReminderGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueReminderGenerator.class);
+
+    static final String KEY_PREFIX = "reminder:issue-";
+
+    // Issue status of completed issues
+    private static final int COMPLETED = 1;
+
+    @Autowired
+    private AlertService alertService;
+
+    @Autowired
+    private AlertRepository alertRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Value("${alerts.reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${alerts.reminders.offsets-minutes:1440,60}")
+    private long[] offsetsMinutes;
+
+    @Value("${alerts.reminders.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    // Bring the reminders of the changed issue in line with it
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile(event.getIssueId(), event.getAfter());
+        } catch (Exception e) {
+            logger.error("Could not update reminders of issue " + event.getIssueId() + ": " + e.getMessage());
+        }
+    }
+
+    // Create the missing reminders of open issues once, e.g. for issues created before reminders existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled || !backfillOnStartup) {
+            return;
+        }
+        OffsetDateTime now = OffsetDateTime.now();
+        Set<String> existingKeys = new HashSet<>(alertRepository.findIdempotencyKeysScheduledAfter(KEY_PREFIX, now));
+        int created = 0;
+        for (Issue issue : issueRepository.findOpenIssuesDueAfter(Date.from(now.toInstant()))) {
+            for (Map.Entry<String, Reminder> reminder : reminders(issue, now).entrySet()) {
+                if (!existingKeys.contains(reminder.getKey()) && create(issue, reminder.getKey(), reminder.getValue())) {
+                    created++;
+                }
+            }
+        }
+        logger.info("Issue reminders backfilled: " + created + " created");
+    }
+
+    private void reconcile(Long issueId, Issue issue) {
+        Map<String, Reminder> wanted = issue == null ? new LinkedHashMap<>() : reminders(issue, OffsetDateTime.now());
+        List<Alert> existing = alertRepository.findByTaskIdAndIdempotencyKeyStartingWith(issueId, keyPrefix(issueId));
+
+        Set<String> existingKeys = new HashSet<>();
+        for (Alert alert : existing) {
+            existingKeys.add(alert.getIdempotencyKey());
+            boolean waiting = "PENDING".equals(alert.getStatus()) || "FAILED".equals(alert.getStatus());
+            if (!waiting) {
+                continue;
+            }
+            if (!wanted.containsKey(alert.getIdempotencyKey())) {
+                alertService.deleteAlert(alert.getId());
+            } else if (!Objects.equals(alert.getTask(), issue.getIssueTitle())) {
+                alert.setTask(issue.getIssueTitle());
+                alertRepository.save(alert);
+            }
+        }
+        for (Map.Entry<String, Reminder> reminder : wanted.entrySet()) {
+            if (!existingKeys.contains(reminder.getKey())) {
+                create(issue, reminder.getKey(), reminder.getValue());
+            }
+        }
+    }
+
+    // Reminders the issue should have from now on, by idempotency key
+    private Map<String, Reminder> reminders(Issue issue, OffsetDateTime now) {
+        Map<String, Reminder> reminders = new LinkedHashMap<>();
+        if (issue.getDueDate() == null || issue.getAssignee() == null
+                || (issue.getStatus() != null && issue.getStatus() == COMPLETED)) {
+            return reminders;
+        }
+        OffsetDateTime due = OffsetDateTime.ofInstant(issue.getDueDate().toInstant(), ZoneId.systemDefault());
+        long closest = Long.MAX_VALUE;
+        for (long offset : offsetsMinutes) {
+            closest = Math.min(closest, offset);
+        }
+        for (long offset : offsetsMinutes) {
+            OffsetDateTime at = due.minusMinutes(offset);
+            if (at.isAfter(now)) {
+                String key = keyPrefix(issue.getIssueId()) + issue.getAssignee() + "-" + offset + "-" + due.toEpochSecond();
+                reminders.put(key, new Reminder(at, offset, due, offset == closest ? "ALTA" : "MEDIA"));
+            }
+        }
+        return reminders;
+    }
+
+    private boolean create(Issue issue, String key, Reminder reminder) {
+        try {
+            alertService.createAlert("La tarea vence en " + describe(reminder.offsetMinutes) + " (" + reminder.due + ")",
+                    issue.getIssueId(), issue.getIssueTitle(), null, String.valueOf(issue.getAssignee()),
+                    reminder.priority, reminder.at, key);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Created at the same time by another replica
+            return false;
+        }
+    }
+
+    private static String keyPrefix(Long issueId) {
+        return KEY_PREFIX + issueId + "-";
+    }
+
+    private static String describe(long minutes) {
+        if (minutes % 1440 == 0) {
+            return minutes / 1440 == 1 ? "1 día" : minutes / 1440 + " días";
+        }
+        if (minutes % 60 == 0) {
+            return minutes / 60 == 1 ? "1 hora" : minutes / 60 + " horas";
+        }
+        return minutes + " minutos";
+    }
+
+    private static final class Reminder {
+        private final OffsetDateTime at;
+        private final long offsetMinutes;
+        private final OffsetDateTime due;
+        private final String priority;
+
+        private Reminder(OffsetDateTime at, long offsetMinutes, OffsetDateTime due, String priority) {
+            this.at = at;
+            this.offsetMinutes = offsetMinutes;
+            this.due = due;
+            this.priority = priority;
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.springboot.MyTodoList.service;
 
+import com.springboot.MyTodoList.dto.IssueListItem;
+import com.springboot.MyTodoList.dto.IssueSummary;
 import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.model.IssueEvent;
+import com.springboot.MyTodoList.repository.IssueEventRepository;
 import com.springboot.MyTodoList.repository.IssueRepository;
+import com.springboot.MyTodoList.repository.IssueSpecifications;
+import com.springboot.MyTodoList.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +26,17 @@ public class IssueService {
     @Autowired
     private IssueRepository issueRepository;
 
+    @Autowired
+    private IssueEventRepository issueEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Create a new issue
     public Issue createIssue(Issue issue) {
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(savedIssue.getIssueId(), null, savedIssue));
+        return savedIssue;
     }
 
     // Get all issues
@@ -29,15 +49,50 @@ public class IssueService {
         return issueRepository.findById(id);
     }
 
+    // Logged changes of an issue, oldest first; the last second of changes may still be queued
+    public List<IssueEvent> getIssueHistory(Long id) {
+        return issueEventRepository.findByIssueIdOrderByEventTimeAscIdAsc(id);
+    }
+
     // Get issues by assignee
     public List<Issue> getIssuesByAssignee(Long assigneeId) {
         return issueRepository.findByAssignee(assigneeId);
     }
 
+    // Up to limit open issues of the assignee by due date, after the given one (null for the first page)
+    public Slice<IssueSummary> getOpenIssueSummaries(Long assigneeId, IssueSummary after, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (after == null) {
+            return issueRepository.findOpenIssueSummaries(assigneeId, page);
+        }
+        if (after.getDueDate() == null) {
+            return issueRepository.findOpenUndatedIssueSummariesAfter(assigneeId, after.getIssueId(), page);
+        }
+        return issueRepository.findOpenIssueSummariesAfter(assigneeId, after.getDueDate(), after.getIssueId(), page);
+    }
+
+    // One page of issues matching every given filter, in (dueDate, issueId) order, starting after the cursor
+    public List<IssueListItem> searchIssues(Long idSprint, Long assignee, Integer status, boolean open, String team,
+                                    String issueType, Date dueFrom, Date dueTo, KeysetCursor after, int limit) {
+        Specification<Issue> spec = IssueSpecifications.matching(idSprint, assignee, status, open, team, issueType, dueFrom, dueTo);
+        if (after != null) {
+            spec = spec.and(IssueSpecifications.after(
+                    after.getSortKey() == null ? null : new Date(Long.parseLong(after.getSortKey())), after.getId()));
+        }
+        return issueRepository.findFirstListItems(spec, Sort.by("dueDate", "issueId"), limit);
+    }
+
+    // Cursor pointing after the given issue; the due date is kept as epoch millis
+    public static KeysetCursor cursorAfter(IssueListItem issue) {
+        return new KeysetCursor(issue.getDueDate() == null ? null : String.valueOf(issue.getDueDate().getTime()),
+                issue.getIssueId());
+    }
+
     // Update an existing issue
     public Issue updateIssue(Long id, Issue issueDetails) throws Exception {
         Issue issue = issueRepository.findById(id)
                 .orElseThrow(() -> new Exception("Issue not found"));
+        Issue before = copyOf(issue);
 
         issue.setIssueTitle(issueDetails.getIssueTitle());
         issue.setIssueDescription(issueDetails.getIssueDescription());
@@ -50,16 +105,58 @@ public class IssueService {
         issue.setStatus(issueDetails.getStatus());
         issue.setHoursWorked(issueDetails.getHoursWorked());
 
-        return issueRepository.save(issue);
+        Issue savedIssue = issueRepository.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(id, before, savedIssue));
+        return savedIssue;
+    }
+
+    // Mark an issue completed with the hours worked and, when given, completion notes.
+    // updateIssue leaves the notes alone, since the web form does not edit them.
+    public Issue completeIssue(Long id, Integer hoursWorked, String completionNotes) throws Exception {
+        Issue issue = issueRepository.findById(id)
+                .orElseThrow(() -> new Exception("Issue not found"));
+        Issue before = copyOf(issue);
+
+        issue.setStatus(1); // Status 1 means COMPLETED
+        issue.setHoursWorked(hoursWorked);
+        if (completionNotes != null) {
+            issue.setCompletionNotes(completionNotes);
+        }
+
+        Issue savedIssue = issueRepository.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(id, before, savedIssue));
+        return savedIssue;
     }
 
     // Delete an issue
     public boolean deleteIssue(Long id) {
         try {
+            Optional<Issue> issue = issueRepository.findById(id);
+            if (!issue.isPresent()) {
+                return false;
+            }
             issueRepository.deleteById(id);
+            eventPublisher.publishEvent(new IssueChangedEvent(id, issue.get(), null));
             return true;
         } catch (Exception e) {
             return false;
         }
     }
+
+    private static Issue copyOf(Issue issue) {
+        Issue copy = new Issue();
+        copy.setIssueId(issue.getIssueId());
+        copy.setIssueTitle(issue.getIssueTitle());
+        copy.setIssueDescription(issue.getIssueDescription());
+        copy.setDueDate(issue.getDueDate());
+        copy.setIssueType(issue.getIssueType());
+        copy.setEstimation(issue.getEstimation());
+        copy.setAssignee(issue.getAssignee());
+        copy.setIdSprint(issue.getIdSprint());
+        copy.setTeam(issue.getTeam());
+        copy.setStatus(issue.getStatus());
+        copy.setHoursWorked(issue.getHoursWorked());
+        copy.setCompletionNotes(issue.getCompletionNotes());
+        return copy;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,218 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.dto.IssueTitle;
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.repository.IssueRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/*
+    In-memory word-prefix index over the titles of open issues, one per
+    assignee, for the bot's inline-query autocomplete. Each title word is a
+    key "word\0issueId" in the assignee's sorted map, so a prefix lookup is a
+    range scan rather than a database query. Loaded once at startup and kept
+    current from IssueChangedEvent; completed, deleted and unassigned issues
+    drop out. Matching ignores case and accents. Changes made by other
+    replicas raise no local event, so the index is periodically compared
+    with the database and corrected.
+ */
+@Component
+public class IssueTitleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(IssueTitleIndex.class);
+    private static final char SEPARATOR = '\u0000';
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, ConcurrentSkipListMap<String, Long>> byAssignee = new ConcurrentHashMap<>();
+    // Local changes applied so far; a resync is dropped if one arrived while it read the database
+    private long changes;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        for (IssueTitle issue : issueRepository.findOpenIssueTitles()) {
+            add(issue.getIssueId(), issue.getAssignee(), issue.getIssueTitle());
+        }
+        logger.info("Indexed the titles of " + entries.size() + " open issues");
+    }
+
+    @EventListener
+    public synchronized void onIssueChanged(IssueChangedEvent event) {
+        changes++;
+        remove(event.getIssueId());
+        Issue issue = event.getAfter();
+        if (issue != null && issue.getAssignee() != null && (issue.getStatus() == null || issue.getStatus() != 1)) {
+            add(issue.getIssueId(), issue.getAssignee(), issue.getIssueTitle());
+        }
+    }
+
+    // Bring the index in line with the open issues in the database, entry by entry, so searches keep working meanwhile
+    @Scheduled(initialDelayString = "${issues.title-index.resync-ms:300000}",
+            fixedDelayString = "${issues.title-index.resync-ms:300000}")
+    public void resync() {
+        long startChanges;
+        synchronized (this) {
+            startChanges = changes;
+        }
+        List<IssueTitle> openIssues = issueRepository.findOpenIssueTitles();
+        synchronized (this) {
+            if (changes != startChanges) {
+                logger.debug("Issues changed during the title index resync; retrying on the next one");
+                return;
+            }
+            int corrected = 0;
+            Set<Long> open = new HashSet<>();
+            for (IssueTitle issue : openIssues) {
+                open.add(issue.getIssueId());
+                Entry entry = entries.get(issue.getIssueId());
+                String title = issue.getIssueTitle() == null ? "" : issue.getIssueTitle();
+                if (entry == null || !entry.assignee.equals(issue.getAssignee()) || !entry.title.equals(title)) {
+                    remove(issue.getIssueId());
+                    add(issue.getIssueId(), issue.getAssignee(), title);
+                    corrected++;
+                }
+            }
+            for (Long issueId : new ArrayList<>(entries.keySet())) {
+                if (!open.contains(issueId)) {
+                    remove(issueId);
+                    corrected++;
+                }
+            }
+            if (corrected > 0) {
+                logger.info("Title index resync corrected " + corrected + " issues");
+            }
+        }
+    }
+
+    // Up to limit open issues of the assignee with, for each query word, a title word starting with it.
+    // An empty query matches every open issue of the assignee.
+    public List<IssueTitle> search(Long assignee, String query, int limit) {
+        ConcurrentSkipListMap<String, Long> words = byAssignee.get(assignee);
+        if (words == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String[] queryWords = words(query);
+        // Scan the range of the longest query word, the most selective one
+        String scanned = "";
+        for (String word : queryWords) {
+            if (word.length() > scanned.length()) {
+                scanned = word;
+            }
+        }
+
+        Set<Long> seen = new LinkedHashSet<>();
+        List<IssueTitle> matches = new ArrayList<>();
+        Map<String, Long> range = scanned.isEmpty() ? words : words.subMap(scanned, scanned + Character.MAX_VALUE);
+        for (Long issueId : range.values()) {
+            if (!seen.add(issueId)) {
+                continue;
+            }
+            Entry entry = entries.get(issueId);
+            if (entry != null && entry.matches(queryWords)) {
+                matches.add(entry);
+                if (matches.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void add(Long issueId, Long assignee, String title) {
+        Entry entry = new Entry(issueId, assignee, title == null ? "" : title);
+        entries.put(issueId, entry);
+        ConcurrentSkipListMap<String, Long> words = byAssignee.computeIfAbsent(assignee, id -> new ConcurrentSkipListMap<>());
+        for (String word : entry.words) {
+            words.put(word + SEPARATOR + issueId, issueId);
+        }
+    }
+
+    private void remove(Long issueId) {
+        Entry entry = entries.remove(issueId);
+        if (entry == null) {
+            return;
+        }
+        ConcurrentSkipListMap<String, Long> words = byAssignee.get(entry.assignee);
+        for (String word : entry.words) {
+            words.remove(word + SEPARATOR + issueId);
+        }
+        if (words.isEmpty()) {
+            byAssignee.remove(entry.assignee);
+        }
+    }
+
+    // Lower-case words without accents, so "Migración" is found by "migra"
+    private static String[] words(String text) {
+        String plain = ACCENTS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        String trimmed = NON_WORD.matcher(plain.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+        return trimmed.isEmpty() ? new String[0] : trimmed.split(" ");
+    }
+
+    private static final class Entry implements IssueTitle {
+        private final Long issueId;
+        private final Long assignee;
+        private final String title;
+        private final String[] words;
+
+        private Entry(Long issueId, Long assignee, String title) {
+            this.issueId = issueId;
+            this.assignee = assignee;
+            this.title = title;
+            this.words = new LinkedHashSet<>(Arrays.asList(words(title))).toArray(new String[0]);
+        }
+
+        private boolean matches(String[] queryWords) {
+            for (String queryWord : queryWords) {
+                boolean found = false;
+                for (String word : words) {
+                    if (word.startsWith(queryWord)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Long getIssueId() {
+            return issueId;
+        }
+
+        @Override
+        public String getIssueTitle() {
+            return title;
+        }
+
+        @Override
+        public Long getAssignee() {
+            return assignee;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.dto.BurndownPoint;
+import com.springboot.MyTodoList.repository.IssueEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+    Rolls ISSUE_EVENT up into ISSUE_SPRINT_DAY, one row of deltas per sprint
+    and day, and serves burndown series as running totals over those rows.
+    Each run rebuilds the rollup from the day before the last one it holds,
+    which covers today's rows and events that were flushed after the last
+    run, so the job only ever reads the recent tail of the log.
+ */
+@Service
+public class SprintBurndownService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SprintBurndownService.class);
+
+    @Autowired
+    private IssueEventRepository issueEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${issues.events.rollup-enabled:true}")
+    private boolean enabled;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Remaining work of the sprint at the end of each day on which it changed, oldest first
+    public List<BurndownPoint> getSprintBurndown(Long idSprint) {
+        return issueEventRepository.findSprintBurndown(idSprint).stream()
+                .map(row -> new BurndownPoint((Date) row[0], ((Number) row[1]).longValue(),
+                        ((Number) row[2]).longValue(), ((Number) row[3]).longValue(), ((Number) row[4]).longValue()))
+                .collect(Collectors.toList());
+    }
+
+    // Replicas may run this concurrently; the primary key of ISSUE_SPRINT_DAY makes all but one of them fail
+    @Scheduled(initialDelayString = "${issues.events.rollup-initial-delay-ms:60000}",
+            fixedDelayString = "${issues.events.rollup-ms:900000}")
+    public void rollup() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer rows = transactionTemplate.execute(status -> {
+                Date lastDay = issueEventRepository.findLastRollupDay();
+                Date from = lastDay == null ? new Date(0) : new Date(lastDay.getTime() - TimeUnit.DAYS.toMillis(1));
+                issueEventRepository.deleteRollupFrom(from);
+                return issueEventRepository.rollupFrom(from);
+            });
+            logger.debug("Rolled up issue events into " + rows + " sprint days");
+        } catch (Exception e) {
+            logger.warn("Issue event rollup failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.dto.AssigneeTotals;
+import com.springboot.MyTodoList.dto.IssueAggregate;
+import com.springboot.MyTodoList.dto.IssueTotals;
+import com.springboot.MyTodoList.dto.SprintMetrics;
+import com.springboot.MyTodoList.dto.SprintVelocity;
+import com.springboot.MyTodoList.model.Issue;
+import com.springboot.MyTodoList.model.Sprint;
+import com.springboot.MyTodoList.repository.IssueRepository;
+import com.springboot.MyTodoList.repository.SprintRepository;
+import com.springboot.MyTodoList.util.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Sprint progress and velocity for dashboards, aggregated by the database
+    with GROUP BY queries instead of summing issues in the browser. Results
+    are cached per sprint and dropped when an issue of the sprint, or the
+    sprint itself, changes. Only local changes are seen that way, so cached
+    results also expire after a TTL, which bounds how long changes made by
+    another replica or directly in the database stay invisible.
+ */
+@Service
+public class SprintMetricsService {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private SprintRepository sprintRepository;
+
+    @Value("${sprints.metrics.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final LruCache<Long, Cached<SprintMetrics>> metrics = new LruCache<>(256);
+    private volatile Cached<List<SprintVelocity>> velocity;
+    // Bumped on every invalidation; a result computed while it changed is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    public Optional<SprintMetrics> getSprintMetrics(Long idSprint) {
+        Cached<SprintMetrics> cached = metrics.get(idSprint);
+        if (isFresh(cached)) {
+            return Optional.of(cached.value);
+        }
+        long startGeneration = generation.get();
+        Optional<SprintMetrics> computed = sprintRepository.findById(idSprint).map(this::computeMetrics);
+        if (computed.isPresent() && generation.get() == startGeneration) {
+            metrics.put(idSprint, new Cached<>(computed.get()));
+        }
+        return computed;
+    }
+
+    public List<SprintVelocity> getVelocity() {
+        Cached<List<SprintVelocity>> cached = velocity;
+        if (isFresh(cached)) {
+            return cached.value;
+        }
+        long startGeneration = generation.get();
+        List<SprintVelocity> computed = Collections.unmodifiableList(new ArrayList<>(sprintRepository.findVelocity()));
+        if (generation.get() == startGeneration) {
+            velocity = new Cached<>(computed);
+        }
+        return computed;
+    }
+
+    @EventListener
+    public void onIssueChanged(IssueChangedEvent event) {
+        invalidate(sprintOf(event.getBefore()));
+        invalidate(sprintOf(event.getAfter()));
+    }
+
+    // Called when a sprint is created, changed or deleted
+    public void invalidate(Long idSprint) {
+        generation.incrementAndGet();
+        velocity = null;
+        if (idSprint != null) {
+            metrics.remove(idSprint);
+        }
+    }
+
+    private SprintMetrics computeMetrics(Sprint sprint) {
+        IssueTotals totals = new IssueTotals();
+        Map<String, Long> issuesByStatus = new TreeMap<>();
+        Map<Long, AssigneeTotals> assignees = new LinkedHashMap<>();
+        for (IssueAggregate row : issueRepository.aggregateSprint(sprint.getIdSprint())) {
+            totals.add(row);
+            issuesByStatus.merge(row.getStatus() == null ? "NONE" : String.valueOf(row.getStatus()), row.getIssues(), Long::sum);
+            assignees.computeIfAbsent(row.getAssignee(), AssigneeTotals::new).add(row);
+        }
+        return new SprintMetrics(sprint.getIdSprint(), sprint.getStartDate(), sprint.getEndDate(), totals,
+                issuesByStatus, new ArrayList<>(assignees.values()));
+    }
+
+    private static Long sprintOf(Issue issue) {
+        return issue == null ? null : issue.getIdSprint();
+    }
+
+    private boolean isFresh(Cached<?> cached) {
+        return cached != null && System.nanoTime() - cached.computedAt < TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    private static final class Cached<T> {
+        private final T value;
+        private final long computedAt = System.nanoTime();
+
+        private Cached(T value) {
+            this.value = value;
+        }
+    }
+}
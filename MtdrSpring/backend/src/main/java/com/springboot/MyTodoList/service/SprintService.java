@@ -1,5 +1,6 @@
 package com.springboot.MyTodoList.service;
 
+import com.springboot.MyTodoList.dto.SprintSummary;
 import com.springboot.MyTodoList.model.Sprint;
 import com.springboot.MyTodoList.repository.SprintRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +15,14 @@ public class SprintService {
     @Autowired
     private SprintRepository sprintRepository;
 
+    @Autowired
+    private SprintMetricsService sprintMetricsService;
+
     // Create a new sprint
     public Sprint createSprint(Sprint sprint) {
-        return sprintRepository.save(sprint);
+        Sprint savedSprint = sprintRepository.save(sprint);
+        sprintMetricsService.invalidate(savedSprint.getIdSprint());
+        return savedSprint;
     }
 
     // Get all sprints
@@ -24,6 +30,11 @@ public class SprintService {
         return sprintRepository.findAll();
     }
 
+    // Get all sprints as list views show them
+    public List<SprintSummary> getSprintSummaries() {
+        return sprintRepository.findAllSummaries();
+    }
+
     // Get a sprint by ID
     public Optional<Sprint> getSprintById(Long id) {
         return sprintRepository.findById(id);
@@ -38,13 +49,16 @@ public class SprintService {
         sprint.setEndDate(sprintDetails.getEndDate());
         sprint.setSprintGoal(sprintDetails.getSprintGoal());
 
-        return sprintRepository.save(sprint);
+        Sprint savedSprint = sprintRepository.save(sprint);
+        sprintMetricsService.invalidate(id);
+        return savedSprint;
     }
 
     // Delete a sprint
     public boolean deleteSprint(Long id) {
         try {
             sprintRepository.deleteById(id);
+            sprintMetricsService.invalidate(id);
             return true;
         } catch (Exception e) {
             return false;
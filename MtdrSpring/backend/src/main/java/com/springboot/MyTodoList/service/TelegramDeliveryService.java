@@ -0,0 +1,412 @@
+package com.springboot.MyTodoList.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.springboot.MyTodoList.util.AlertPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+import org.telegram.telegrambots.meta.api.methods.AnswerInlineQuery;
+import org.telegram.telegrambots.meta.api.methods.BotApiMethod;
+import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+    Non-blocking outbound pipeline for Telegram messages sent through the Bot
+    HTTP API. Callers enqueue a message and get a future back; a pacing thread
+    releases messages as TelegramRateLimiter allows and a small worker pool
+    performs the HTTP calls over pooled keep-alive connections.
+
+    Alerts and bot replies (full SendMessage requests, keyboards included)
+    share the pipeline, so both stay within the same Telegram limits. Part of
+    the queue capacity is reserved for replies and inline answers, so an
+    alert backlog cannot get them rejected.
+
+    Messages wait in one queue level per AlertPriority. Levels share the
+    sending budget by weighted round robin, so HIGH messages are released
+    first without starving LOW ones, and inside a level every chat with
+    waiting messages takes its turn, so one busy user cannot hold up the rest.
+    A chat has at most one message of a level in flight: its lane only gets
+    its next turn once the previous message was delivered or failed, and a
+    message that hit the rate limit goes back to the head of its lane, so
+    the messages of a chat arrive in the order they were queued.
+ */
+@Service
+public class TelegramDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TelegramDeliveryService.class);
+
+    @Autowired
+    private TelegramRateLimiter rateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${telegram.bot.token}")
+    private String botToken;
+
+    @Value("${telegram.api.base-url:https://api.telegram.org}")
+    private String apiBaseUrl;
+
+    @Value("${telegram.delivery.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${telegram.delivery.reply-reserve:200}")
+    private int replyReserve;
+
+    @Value("${telegram.delivery.workers:4}")
+    private int workers;
+
+    @Value("${telegram.delivery.weight.high:6}")
+    private int highWeight;
+
+    @Value("${telegram.delivery.weight.medium:3}")
+    private int mediumWeight;
+
+    @Value("${telegram.delivery.weight.low:1}")
+    private int lowWeight;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger pending = new AtomicInteger();
+    // Guards the queue levels
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Level[] levels = new Level[AlertPriority.values().length];
+
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+    private ExecutorService workerPool;
+    private Thread pacer;
+
+    @PostConstruct
+    public void start() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(workers);
+        connectionManager.setDefaultMaxPerRoute(workers);
+        httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        int[] weights = {highWeight, mediumWeight, lowWeight};
+        for (AlertPriority priority : AlertPriority.values()) {
+            Level level = new Level(Math.max(1, weights[priority.ordinal()]));
+            levels[priority.ordinal()] = level;
+            String tag = priority.name().toLowerCase();
+            Gauge.builder("telegram.delivery.queue.depth", level.depth, AtomicInteger::get)
+                    .description("Messages waiting to be sent to Telegram")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            level.waitTimer = Timer.builder("telegram.delivery.queue.wait")
+                    .description("Time messages spend queued before being sent")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "telegram-delivery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pacer = new Thread(this::pace, "telegram-delivery-pacer");
+        pacer.setDaemon(true);
+        pacer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        pacer.interrupt();
+        workerPool.shutdown();
+        httpClient.close();
+    }
+
+    public CompletableFuture<Void> send(long chatId, String text) {
+        return send(chatId, text, AlertPriority.MEDIUM);
+    }
+
+    // Queue a message for the chat. The future completes once Telegram accepted it, or exceptionally
+    // when Telegram rejected it or the pipeline is full.
+    public CompletableFuture<Void> send(long chatId, String text, AlertPriority priority) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("chat_id", chatId);
+        body.put("text", text);
+        return enqueue(chatId, body, priority, alertCapacity());
+    }
+
+    // Queue a bot reply. Replies go out ahead of alerts since a user is waiting for them;
+    // the replies of one chat keep their order.
+    public CompletableFuture<Void> send(SendMessage message) {
+        return enqueue(chatKey(message.getChatId()), message, AlertPriority.HIGH, queueCapacity);
+    }
+
+    // Queue the answer to an inline query of the user; the user is typing, so it goes out like a reply
+    public CompletableFuture<Void> send(AnswerInlineQuery answer, long userId) {
+        return enqueue(userId, answer, AlertPriority.HIGH, queueCapacity);
+    }
+
+    // Queue the message unless the pipeline already holds capacity messages
+    private CompletableFuture<Void> enqueue(long chatId, Object body, AlertPriority priority, int capacity) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            result.completeExceptionally(new IllegalStateException("Telegram delivery queue is full"));
+            return result;
+        }
+        enqueue(new Outgoing(chatId, body, priority, result));
+        return result;
+    }
+
+    // Numeric chat id, or a stable stand-in for @channel usernames
+    private static long chatKey(String chatId) {
+        try {
+            return Long.parseLong(chatId);
+        } catch (NumberFormatException e) {
+            return chatId.hashCode();
+        }
+    }
+
+    // Free slots left in the pipeline for alerts, the reply reserve excluded
+    public int remainingCapacity() {
+        return Math.max(0, alertCapacity() - pending.get());
+    }
+
+    private int alertCapacity() {
+        return Math.max(0, queueCapacity - replyReserve);
+    }
+
+    // A lane that already exists either has a turn waiting or a message in flight, which gives it its next turn
+    private void enqueue(Outgoing message) {
+        lock.lock();
+        try {
+            Level level = levels[message.priority.ordinal()];
+            ArrayDeque<Outgoing> lane = level.lanes.get(message.chatId);
+            if (lane == null) {
+                lane = new ArrayDeque<>();
+                level.lanes.put(message.chatId, lane);
+                level.turns.add(new ChatTurn(message.chatId, System.nanoTime()));
+            }
+            lane.addLast(message);
+            level.depth.incrementAndGet();
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The in-flight message of a lane is done. A retried message goes back to the head of its lane
+    // before any other message of the chat can be released.
+    private void release(Outgoing message, boolean retry) {
+        lock.lock();
+        try {
+            Level level = levels[message.priority.ordinal()];
+            ArrayDeque<Outgoing> lane = level.lanes.get(message.chatId);
+            if (retry) {
+                lane.addFirst(message);
+                level.depth.incrementAndGet();
+            }
+            if (lane.isEmpty()) {
+                level.lanes.remove(message.chatId);
+            } else {
+                // Back of the line: other chats of this level go first
+                level.turns.add(new ChatTurn(message.chatId, System.nanoTime()));
+            }
+            changed.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void pace() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Outgoing message = nextMessage();
+                workerPool.execute(() -> deliver(message));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Wait for the next message the rate limits allow to send
+    private Outgoing nextMessage() throws InterruptedException {
+        lock.lock();
+        try {
+            while (true) {
+                long globalWait = rateLimiter.nanosUntilGlobalAvailable();
+                if (globalWait > 0) {
+                    changed.awaitNanos(globalWait);
+                    continue;
+                }
+                long now = System.nanoTime();
+                Level level = pickLevel(now);
+                if (level == null) {
+                    long wait = nanosUntilReady(now);
+                    if (wait == Long.MAX_VALUE) {
+                        changed.await();
+                    } else {
+                        changed.awaitNanos(wait);
+                    }
+                    continue;
+                }
+                ChatTurn turn = level.turns.poll();
+                long wait = rateLimiter.tryAcquire(turn.chatId);
+                if (wait > 0) {
+                    level.turns.add(new ChatTurn(turn.chatId, now + wait));
+                    continue;
+                }
+                charge(level, now);
+                // The lane stays without a turn until release, so its next message waits for this one
+                Outgoing message = level.lanes.get(turn.chatId).pollFirst();
+                level.depth.decrementAndGet();
+                level.waitTimer.record(now - message.enqueuedAt, TimeUnit.NANOSECONDS);
+                return message;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Smooth weighted round robin over the levels that have a chat ready to send. Credits are only
+    // settled by charge once the level actually sends, so turns refused by the rate limiter do not count.
+    private Level pickLevel(long now) {
+        Level chosen = null;
+        for (Level level : levels) {
+            if (level.isReady(now) && (chosen == null || level.credit + level.weight > chosen.credit + chosen.weight)) {
+                chosen = level;
+            }
+        }
+        return chosen;
+    }
+
+    // The level picked at now sends a message: every ready level earns its weight and the sender pays the total
+    private void charge(Level chosen, long now) {
+        int totalWeight = 0;
+        for (Level level : levels) {
+            if (level.isReady(now) || level == chosen) {
+                level.credit += level.weight;
+                totalWeight += level.weight;
+            }
+        }
+        chosen.credit -= totalWeight;
+    }
+
+    private long nanosUntilReady(long now) {
+        long wait = Long.MAX_VALUE;
+        for (Level level : levels) {
+            ChatTurn head = level.turns.peek();
+            if (head != null) {
+                wait = Math.min(wait, Math.max(1, head.readyAt - now));
+            }
+        }
+        return wait;
+    }
+
+    private void deliver(Outgoing message) {
+        try {
+            String method = message.body instanceof BotApiMethod ? ((BotApiMethod<?>) message.body).getMethod() : "sendMessage";
+            restTemplate.postForObject(apiBaseUrl + "/bot" + botToken + "/" + method, message.body, String.class);
+            release(message, false);
+            pending.decrementAndGet();
+            message.result.complete(null);
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
+                long retryAfter = retryAfter(e.getResponseBodyAsString());
+                logger.warn("Telegram rate limit hit, pausing for " + retryAfter + "s");
+                rateLimiter.pause(retryAfter);
+                release(message, true);
+                return;
+            }
+            logger.error("Telegram rejected message for chat " + message.chatId + ": " + e.getResponseBodyAsString());
+            release(message, false);
+            pending.decrementAndGet();
+            message.result.completeExceptionally(new IllegalStateException(
+                    "Telegram rejected message: " + e.getResponseBodyAsString()));
+        } catch (Exception e) {
+            logger.error("Error sending message to Telegram: " + e.getMessage());
+            release(message, false);
+            pending.decrementAndGet();
+            message.result.completeExceptionally(e);
+        }
+    }
+
+    private long retryAfter(String responseBody) {
+        try {
+            return objectMapper.readTree(responseBody).path("parameters").path("retry_after").asLong(1);
+        } catch (IOException e) {
+            return 1;
+        }
+    }
+
+    // Queue of one priority: waiting messages per chat, and the chats ordered by when they may send next.
+    // A chat with a message in flight keeps its lane, possibly empty, but has no turn.
+    private static final class Level {
+        private final int weight;
+        private final Map<Long, ArrayDeque<Outgoing>> lanes = new HashMap<>();
+        private final PriorityQueue<ChatTurn> turns = new PriorityQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        private Timer waitTimer;
+        private int credit;
+
+        private Level(int weight) {
+            this.weight = weight;
+        }
+
+        private boolean isReady(long now) {
+            ChatTurn head = turns.peek();
+            return head != null && head.readyAt <= now;
+        }
+    }
+
+    private static final class Outgoing {
+        private final long chatId;
+        private final Object body;
+        private final AlertPriority priority;
+        private final CompletableFuture<Void> result;
+        private final long enqueuedAt = System.nanoTime();
+
+        private Outgoing(long chatId, Object body, AlertPriority priority, CompletableFuture<Void> result) {
+            this.chatId = chatId;
+            this.body = body;
+            this.priority = priority;
+            this.result = result;
+        }
+    }
+
+    private static final class ChatTurn implements Comparable<ChatTurn> {
+        private final long chatId;
+        private final long readyAt;
+
+        private ChatTurn(long chatId, long readyAt) {
+            this.chatId = chatId;
+            this.readyAt = readyAt;
+        }
+
+        @Override
+        public int compareTo(ChatTurn other) {
+            return Long.compare(readyAt, other.readyAt);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Keeps outgoing Telegram traffic within the Bot API limits: a global
+    messages-per-second budget for the bot token plus a smaller budget per chat.
+    Shared by everything that sends with the bot token.
+ */
+@Component
+public class TelegramRateLimiter {
+
+    @Value("${telegram.rate.global-per-second:30}")
+    private double globalPerSecond;
+
+    @Value("${telegram.rate.per-chat-per-second:1}")
+    private double perChatPerSecond;
+
+    private TokenBucket globalBucket;
+    private final Map<Long, TokenBucket> chatBuckets = new ConcurrentHashMap<>();
+    private long pausedUntil;
+
+    @PostConstruct
+    public void init() {
+        globalBucket = new TokenBucket(globalPerSecond, globalPerSecond);
+        pausedUntil = System.nanoTime();
+    }
+
+    // Take a token for the chat. Returns 0 on success, otherwise the nanoseconds to wait before retrying.
+    public synchronized long tryAcquire(long chatId) {
+        long pause = pausedUntil - System.nanoTime();
+        if (pause > 0) {
+            return pause;
+        }
+        TokenBucket chatBucket = chatBuckets.computeIfAbsent(chatId,
+                id -> new TokenBucket(Math.max(1, perChatPerSecond), perChatPerSecond));
+        long wait = Math.max(chatBucket.nanosUntilAvailable(), globalBucket.nanosUntilAvailable());
+        if (wait > 0) {
+            return wait;
+        }
+        chatBucket.tryConsume();
+        globalBucket.tryConsume();
+        return 0;
+    }
+
+    // Nanoseconds until the global budget allows another message, whatever the chat
+    public synchronized long nanosUntilGlobalAvailable() {
+        return Math.max(pausedUntil - System.nanoTime(), globalBucket.nanosUntilAvailable());
+    }
+
+    // Stop all sending for a while, e.g. after Telegram answered 429 with retry_after
+    public synchronized void pause(long seconds) {
+        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        if (until - pausedUntil > 0) {
+            pausedUntil = until;
+        }
+    }
+
+    // Forget buckets of chats that have been quiet long enough to refill
+    @Scheduled(fixedDelay = 60000)
+    public synchronized void evictIdleChats() {
+        chatBuckets.values().removeIf(TokenBucket::isFull);
+    }
+}
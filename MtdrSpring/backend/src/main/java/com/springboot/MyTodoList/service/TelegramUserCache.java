@@ -0,0 +1,88 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.User;
+import com.springboot.MyTodoList.repository.UserRepository;
+import com.springboot.MyTodoList.util.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Near-cache of the user behind each Telegram id, so bot commands do not
+    query USERS on every message. Unregistered ids are cached too, for a
+    shorter time. Entries expire after their TTL and the least recently used
+    ones are evicted once the cache is full; UserService invalidates the ids
+    of users it creates, changes or deletes.
+ */
+@Component
+public class TelegramUserCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${users.telegram-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${users.telegram-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${users.telegram-cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    private LruCache<Long, Entry> users;
+    private Counter hits;
+    private Counter misses;
+
+    @PostConstruct
+    public void init() {
+        users = new LruCache<>(maxSize);
+        hits = Counter.builder("cache.gets").tag("cache", "telegramUsers").tag("result", "hit")
+                .description("Telegram user lookups served from the cache")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", "telegramUsers").tag("result", "miss")
+                .description("Telegram user lookups that queried the database")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", users, LruCache::size).tag("cache", "telegramUsers")
+                .register(meterRegistry);
+    }
+
+    // The registered user with this Telegram id, or null if there is none
+    public User get(Long telegramId) {
+        long now = System.nanoTime();
+        Entry entry = users.get(telegramId);
+        if (entry != null && entry.expiresAt - now > 0) {
+            hits.increment();
+            return entry.user;
+        }
+        misses.increment();
+        User user = userRepository.findByTelegramId(telegramId);
+        long ttl = user != null ? ttlSeconds : negativeTtlSeconds;
+        users.put(telegramId, new Entry(user, now + TimeUnit.SECONDS.toNanos(ttl)));
+        return user;
+    }
+
+    public void invalidate(Long telegramId) {
+        if (telegramId != null) {
+            users.remove(telegramId);
+        }
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -15,6 +15,10 @@ public class ToDoItemService {
 
     @Autowired
     private ToDoItemRepository toDoItemRepository;
+
+    @Autowired
+    private TodoKeyboardService todoKeyboardService;
+
     public List<ToDoItem> findAll(){
         List<ToDoItem> todoItems = toDoItemRepository.findAll();
         return todoItems;
@@ -28,12 +32,15 @@ public class ToDoItemService {
         }
     }
     public ToDoItem addToDoItem(ToDoItem toDoItem){
-        return toDoItemRepository.save(toDoItem);
+        ToDoItem savedItem = toDoItemRepository.save(toDoItem);
+        todoKeyboardService.invalidate();
+        return savedItem;
     }
 
     public boolean deleteToDoItem(int id){
         try{
             toDoItemRepository.deleteById(id);
+            todoKeyboardService.invalidate();
             return true;
         }catch(Exception e){
             return false;
@@ -47,7 +54,9 @@ public class ToDoItemService {
             toDoItem.setCreation_ts(td.getCreation_ts());
             toDoItem.setDescription(td.getDescription());
             toDoItem.setDone(td.isDone());
-            return toDoItemRepository.save(toDoItem);
+            ToDoItem savedItem = toDoItemRepository.save(toDoItem);
+            todoKeyboardService.invalidate();
+            return savedItem;
         }else{
             return null;
         }
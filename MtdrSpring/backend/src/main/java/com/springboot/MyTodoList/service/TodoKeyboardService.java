@@ -0,0 +1,161 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.model.ToDoItem;
+import com.springboot.MyTodoList.repository.ToDoItemRepository;
+import com.springboot.MyTodoList.util.BotLabels;
+import com.springboot.MyTodoList.util.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardMarkup;
+import org.telegram.telegrambots.meta.api.objects.replykeyboard.buttons.KeyboardRow;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    Renders the todo list keyboard of the bot one page at a time, active
+    items first, each page read with a single query. The page a chat is
+    looking at is cached, so re-showing it or paging back and forth costs no
+    query until the list changes: every change bumps a version that makes
+    all cached pages stale. The version only sees changes made in this
+    process, so a page is also re-read once it is older than the TTL, which
+    bounds how long changes made through another replica stay invisible.
+ */
+@Service
+public class TodoKeyboardService {
+
+    @Autowired
+    private ToDoItemRepository toDoItemRepository;
+
+    @Value("${bot.todo.page-size:20}")
+    private int pageSize;
+
+    @Value("${bot.todo.keyboard-cache-size:1000}")
+    private int cacheSize;
+
+    @Value("${bot.todo.keyboard-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private LruCache<Long, RenderedPage> pages;
+    private final AtomicLong version = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        pages = new LruCache<>(cacheSize);
+    }
+
+    public ReplyKeyboardMarkup firstPage(long chatId) {
+        return page(chatId, 0);
+    }
+
+    // The page the chat looked at last
+    public ReplyKeyboardMarkup currentPage(long chatId) {
+        RenderedPage current = pages.get(chatId);
+        return page(chatId, current == null ? 0 : current.page);
+    }
+
+    public ReplyKeyboardMarkup nextPage(long chatId) {
+        RenderedPage current = pages.get(chatId);
+        if (current == null) {
+            return page(chatId, 0);
+        }
+        return page(chatId, current.hasNext ? current.page + 1 : current.page);
+    }
+
+    public ReplyKeyboardMarkup previousPage(long chatId) {
+        RenderedPage current = pages.get(chatId);
+        return page(chatId, current == null ? 0 : Math.max(0, current.page - 1));
+    }
+
+    // Called whenever a todo item is added, changed or deleted
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private ReplyKeyboardMarkup page(long chatId, int page) {
+        long currentVersion = version.get();
+        RenderedPage cached = pages.get(chatId);
+        if (cached != null && cached.page == page && cached.version == currentVersion
+                && System.nanoTime() - cached.renderedAt < TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            return cached.keyboard;
+        }
+        Slice<ToDoItem> slice = toDoItemRepository.findPage(PageRequest.of(page, pageSize));
+        if (!slice.hasContent() && page > 0) {
+            // The list got shorter: show its last page instead
+            return page(chatId, page - 1);
+        }
+        RenderedPage rendered = new RenderedPage(currentVersion, page, slice.hasNext(), render(slice));
+        pages.put(chatId, rendered);
+        return rendered.keyboard;
+    }
+
+    private ReplyKeyboardMarkup render(Slice<ToDoItem> slice) {
+        List<KeyboardRow> keyboard = new ArrayList<>();
+
+        // command back to main screen
+        KeyboardRow mainScreenRowTop = new KeyboardRow();
+        mainScreenRowTop.add(BotLabels.SHOW_MAIN_SCREEN.getLabel());
+        keyboard.add(mainScreenRowTop);
+
+        KeyboardRow firstRow = new KeyboardRow();
+        firstRow.add(BotLabels.ADD_NEW_ITEM.getLabel());
+        keyboard.add(firstRow);
+
+        KeyboardRow myTodoListTitleRow = new KeyboardRow();
+        myTodoListTitleRow.add(BotLabels.MY_TODO_LIST.getLabel());
+        keyboard.add(myTodoListTitleRow);
+
+        for (ToDoItem item : slice) {
+            KeyboardRow currentRow = new KeyboardRow();
+            currentRow.add(item.getDescription());
+            if (item.isDone()) {
+                currentRow.add(item.getID() + BotLabels.DASH.getLabel() + BotLabels.UNDO.getLabel());
+                currentRow.add(item.getID() + BotLabels.DASH.getLabel() + BotLabels.DELETE.getLabel());
+            } else {
+                currentRow.add(item.getID() + BotLabels.DASH.getLabel() + BotLabels.DONE.getLabel());
+            }
+            keyboard.add(currentRow);
+        }
+
+        KeyboardRow navigationRow = new KeyboardRow();
+        if (slice.hasPrevious()) {
+            navigationRow.add(BotLabels.PREVIOUS_PAGE.getLabel());
+        }
+        if (slice.hasNext()) {
+            navigationRow.add(BotLabels.NEXT_PAGE.getLabel());
+        }
+        if (!navigationRow.isEmpty()) {
+            keyboard.add(navigationRow);
+        }
+
+        // command back to main screen
+        KeyboardRow mainScreenRowBottom = new KeyboardRow();
+        mainScreenRowBottom.add(BotLabels.SHOW_MAIN_SCREEN.getLabel());
+        keyboard.add(mainScreenRowBottom);
+
+        ReplyKeyboardMarkup keyboardMarkup = new ReplyKeyboardMarkup();
+        keyboardMarkup.setKeyboard(keyboard);
+        return keyboardMarkup;
+    }
+
+    private static final class RenderedPage {
+        private final long version;
+        private final int page;
+        private final boolean hasNext;
+        private final ReplyKeyboardMarkup keyboard;
+        private final long renderedAt = System.nanoTime();
+
+        private RenderedPage(long version, int page, boolean hasNext, ReplyKeyboardMarkup keyboard) {
+            this.version = version;
+            this.page = page;
+            this.hasNext = hasNext;
+            this.keyboard = keyboard;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.springboot.MyTodoList.service;
+
+import com.springboot.MyTodoList.dto.UserChatId;
+import com.springboot.MyTodoList.repository.UserRepository;
+import com.springboot.MyTodoList.util.LruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/*
+    Maps user ids to their Telegram chat id. Lookups for a whole batch of
+    users are served from a bounded cache, with a single query for the misses.
+    Users without a chat id are cached too, for a shorter time. Entries expire
+    after their TTL, so changes made by another replica are picked up, and
+    UserService invalidates the users it creates, changes or deletes.
+ */
+@Component
+public class UserChatIdCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${users.chat-id-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${users.chat-id-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${users.chat-id-cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    private LruCache<Long, Entry> chatIds;
+
+    @PostConstruct
+    public void init() {
+        chatIds = new LruCache<>(maxSize);
+    }
+
+    // Chat id of every given user that has one configured
+    public Map<Long, Long> resolve(Collection<Long> userIds) {
+        long now = System.nanoTime();
+        Map<Long, Long> resolved = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        for (Long userId : userIds) {
+            Entry entry = chatIds.get(userId);
+            if (entry == null || entry.expiresAt - now <= 0) {
+                misses.add(userId);
+            } else if (entry.chatId != null) {
+                resolved.put(userId, entry.chatId);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long expiresAt = now + TimeUnit.SECONDS.toNanos(ttlSeconds);
+            for (UserChatId user : userRepository.findChatIdsByUserIds(misses)) {
+                chatIds.put(user.getUserId(), new Entry(user.getTelegramId(), expiresAt));
+                resolved.put(user.getUserId(), user.getTelegramId());
+                misses.remove(user.getUserId());
+            }
+            long negativeExpiresAt = now + TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+            for (Long userId : misses) {
+                chatIds.put(userId, new Entry(null, negativeExpiresAt));
+            }
+        }
+        return resolved;
+    }
+
+    public void invalidate(Long userId) {
+        chatIds.remove(userId);
+    }
+
+    private static final class Entry {
+        private final Long chatId;
+        private final long expiresAt;
+
+        private Entry(Long chatId, long expiresAt) {
+            this.chatId = chatId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
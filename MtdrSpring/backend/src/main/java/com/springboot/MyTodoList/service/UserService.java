@@ -1,5 +1,6 @@
 package com.springboot.MyTodoList.service;
 
+import com.springboot.MyTodoList.dto.UserSummary;
 import com.springboot.MyTodoList.model.User;
 import com.springboot.MyTodoList.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +15,15 @@ public class UserService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserChatIdCache userChatIdCache;
+
+    @Autowired
+    private TelegramUserCache telegramUserCache;
+
     // Get user by Telegram ID
     public User findByTelegramId(Long telegramId) {
-        return userRepository.findByTelegramId(telegramId);
+        return telegramUserCache.get(telegramId);
     }
 
     // Get all users
@@ -24,6 +31,11 @@ public class UserService {
         return userRepository.findAll();
     }
 
+    // Get all users as list views and pickers show them
+    public List<UserSummary> getUserSummaries() {
+        return userRepository.findAllSummaries();
+    }
+
     // Get user by ID
     public Optional<User> getUserById(Long id) {
         return userRepository.findById(id);
@@ -31,25 +43,36 @@ public class UserService {
 
     // Create a new user
     public User createUser(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userChatIdCache.invalidate(savedUser.getUserId());
+        telegramUserCache.invalidate(savedUser.getTelegramId());
+        return savedUser;
     }
 
     // Update an existing user
     public User updateUser(Long id, User userDetails) throws Exception {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new Exception("User not found"));
+        Long previousTelegramId = user.getTelegramId();
 
         user.setUserName(userDetails.getUserName());
         user.setUserRol(userDetails.getUserRol());
         user.setTelegramId(userDetails.getTelegramId());
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userChatIdCache.invalidate(id);
+        telegramUserCache.invalidate(previousTelegramId);
+        telegramUserCache.invalidate(savedUser.getTelegramId());
+        return savedUser;
     }
 
     // Delete a user
     public boolean deleteUser(Long id) {
         try {
+            Optional<User> user = userRepository.findById(id);
             userRepository.deleteById(id);
+            userChatIdCache.invalidate(id);
+            user.ifPresent(deleted -> telegramUserCache.invalidate(deleted.getTelegramId()));
             return true;
         } catch (Exception e) {
             return false;
@@ -0,0 +1,79 @@
+package com.springboot.MyTodoList.util;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.springboot.MyTodoList.model.Alert;
+
+/*
+    Renders alerts as Telegram message texts.
+ */
+public class AlertMessages {
+
+	// Longest text Telegram accepts in a single message
+	public static final int MAX_MESSAGE_LENGTH = 4096;
+
+	private static final Comparator<Alert> DIGEST_ORDER = Comparator
+			.comparing((Alert alert) -> AlertPriority.of(alert.getPriority()))
+			.thenComparing(Alert::getScheduledTime, Comparator.nullsLast(Comparator.<OffsetDateTime>naturalOrder()));
+
+	public static String single(Alert alert) {
+		return "Tienes una nueva alerta:\n\n" +
+				"Tarea: " + alert.getTask() + "\n" +
+				"Descripción: " + alert.getMessage() + "\n" +
+				"Prioridad: " + alert.getPriority() + "\n" +
+				"Fecha programada: " + alert.getScheduledTime();
+	}
+
+	// Several alerts of the same user split into the groups that each fit in one digest message,
+	// highest priority first. An alert too long for a digest ends up alone in its group.
+	public static List<List<Alert>> digestGroups(List<Alert> alerts) {
+		List<Alert> sorted = new ArrayList<>(alerts);
+		sorted.sort(DIGEST_ORDER);
+
+		// No group has more alerts than the whole batch, so its header is never longer than this one
+		int headerLength = digestHeader(alerts.size()).length();
+		List<List<Alert>> groups = new ArrayList<>();
+		List<Alert> group = new ArrayList<>();
+		int length = headerLength;
+		for (Alert alert : sorted) {
+			int entryLength = digestEntry(alert).length();
+			if (!group.isEmpty() && length + entryLength > MAX_MESSAGE_LENGTH) {
+				groups.add(group);
+				group = new ArrayList<>();
+				length = headerLength;
+			}
+			group.add(alert);
+			length += entryLength;
+		}
+		if (!group.isEmpty()) {
+			groups.add(group);
+		}
+		return groups;
+	}
+
+	// One digest message for a group of digestGroups, highest priority first
+	public static String digest(List<Alert> alerts) {
+		List<Alert> sorted = new ArrayList<>(alerts);
+		sorted.sort(DIGEST_ORDER);
+
+		StringBuilder message = new StringBuilder(digestHeader(alerts.size()));
+		for (Alert alert : sorted) {
+			message.append(digestEntry(alert));
+		}
+		return message.toString().trim();
+	}
+
+	private static String digestHeader(int count) {
+		return "Tienes " + count + " alertas nuevas:\n\n";
+	}
+
+	private static String digestEntry(Alert alert) {
+		return "[" + alert.getPriority() + "] " + alert.getTask() + "\n" +
+				alert.getMessage() + "\n" +
+				"Fecha programada: " + alert.getScheduledTime() + "\n\n";
+	}
+
+}
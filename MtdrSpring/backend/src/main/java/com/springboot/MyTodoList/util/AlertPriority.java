@@ -0,0 +1,35 @@
+package com.springboot.MyTodoList.util;
+
+/*
+    Priorities an alert can carry. The frontend stores the Spanish labels;
+    the English names are accepted as well.
+ */
+public enum AlertPriority {
+
+	HIGH("ALTA"),
+	MEDIUM("MEDIA"),
+	LOW("BAJA");
+
+	private String label;
+
+	AlertPriority(String enumLabel) {
+		this.label = enumLabel;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	// Priority of an alert's PRIORITY value; unknown or missing values count as MEDIUM
+	public static AlertPriority of(String priority) {
+		if (priority != null) {
+			for (AlertPriority value : values()) {
+				if (value.label.equalsIgnoreCase(priority) || value.name().equalsIgnoreCase(priority)) {
+					return value;
+				}
+			}
+		}
+		return MEDIUM;
+	}
+
+}
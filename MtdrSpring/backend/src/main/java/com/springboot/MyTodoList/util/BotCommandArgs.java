@@ -0,0 +1,114 @@
+package com.springboot.MyTodoList.util;
+
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+/*
+    The update a BotCommandRouter handler was chosen for, with a cursor over
+    the arguments that follow the command word. Numbers are parsed straight
+    from the message text, without splitting it into strings first.
+ */
+public class BotCommandArgs {
+
+	private final Update update;
+	private final long chatId;
+	private final String text;
+	private final long itemId;
+	private int position;
+
+	BotCommandArgs(Update update, long chatId, String text, int position, long itemId) {
+		this.update = update;
+		this.chatId = chatId;
+		this.text = text;
+		this.position = position;
+		this.itemId = itemId;
+	}
+
+	public Update getUpdate() {
+		return update;
+	}
+
+	public long getChatId() {
+		return chatId;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	// Id in an item action such as "12-DONE", -1 for other routes
+	public long getItemId() {
+		return itemId;
+	}
+
+	// Number of whitespace-separated arguments not read yet
+	public int remaining() {
+		int count = 0;
+		boolean inWord = false;
+		for (int i = position; i < text.length(); i++) {
+			boolean space = Character.isWhitespace(text.charAt(i));
+			if (!space && !inWord) {
+				count++;
+			}
+			inWord = !space;
+		}
+		return count;
+	}
+
+	public long nextLong() {
+		skipWhitespace();
+		int start = position;
+		boolean negative = position < text.length() && text.charAt(position) == '-';
+		if (negative) {
+			position++;
+		}
+		long value = 0;
+		int digits = 0;
+		try {
+			for (; position < text.length() && !Character.isWhitespace(text.charAt(position)); position++) {
+				int digit = Character.digit(text.charAt(position), 10);
+				if (digit < 0) {
+					throw invalidNumber(start);
+				}
+				value = Math.addExact(Math.multiplyExact(value, 10), negative ? -digit : digit);
+				digits++;
+			}
+		} catch (ArithmeticException e) {
+			throw invalidNumber(start);
+		}
+		if (digits == 0) {
+			throw invalidNumber(start);
+		}
+		return value;
+	}
+
+	public int nextInt() {
+		int start = position;
+		long value = nextLong();
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw invalidNumber(start);
+		}
+		return (int) value;
+	}
+
+	// Everything after the arguments read so far, trimmed
+	public String rest() {
+		skipWhitespace();
+		String rest = text.substring(position).trim();
+		position = text.length();
+		return rest;
+	}
+
+	private void skipWhitespace() {
+		while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+			position++;
+		}
+	}
+
+	private NumberFormatException invalidNumber(int start) {
+		int end = start;
+		while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+			end++;
+		}
+		return new NumberFormatException("For input string: \"" + text.substring(start, end) + "\"");
+	}
+}
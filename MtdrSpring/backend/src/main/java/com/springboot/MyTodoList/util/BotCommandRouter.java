@@ -0,0 +1,109 @@
+package com.springboot.MyTodoList.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+/*
+    Dispatch table for bot messages, built from BotCommands and BotLabels.
+    A message is routed with at most three hash lookups, whatever the number
+    of routes:
+    - the whole text, for buttons and commands without arguments;
+    - the first word, for commands followed by arguments ("/complete 12 4");
+    - the label after "<id>-", for item buttons such as "12-DONE".
+    Anything else goes to the fallback handler. Texts that merely contain a
+    label (e.g. a todo item called "UNDO the migration") are not item actions.
+ */
+public class BotCommandRouter {
+
+	@FunctionalInterface
+	public interface Handler {
+		void handle(BotCommandArgs args) throws Exception;
+	}
+
+	private static final long NO_ITEM = -1;
+
+	private final Map<String, Handler> exact = new HashMap<>();
+	private final Map<String, Handler> commands = new HashMap<>();
+	private final Map<String, Handler> itemActions = new HashMap<>();
+	private Handler fallback = args -> {
+	};
+
+	public BotCommandRouter on(BotCommands command, Handler handler) {
+		return on(command.getCommand(), handler);
+	}
+
+	public BotCommandRouter on(BotLabels label, Handler handler) {
+		return on(label.getLabel(), handler);
+	}
+
+	public BotCommandRouter on(String text, Handler handler) {
+		exact.put(text, handler);
+		return this;
+	}
+
+	// A command word that may be followed by arguments
+	public BotCommandRouter onCommand(BotCommands command, Handler handler) {
+		return onCommand(command.getCommand(), handler);
+	}
+
+	public BotCommandRouter onCommand(BotLabels label, Handler handler) {
+		return onCommand(label.getLabel(), handler);
+	}
+
+	public BotCommandRouter onCommand(String word, Handler handler) {
+		commands.put(word, handler);
+		return this;
+	}
+
+	// An item button: "<id>" + BotLabels.DASH + action label
+	public BotCommandRouter onItemAction(BotLabels action, Handler handler) {
+		itemActions.put(action.getLabel(), handler);
+		return this;
+	}
+
+	public BotCommandRouter otherwise(Handler handler) {
+		fallback = handler;
+		return this;
+	}
+
+	public void dispatch(Update update, long chatId, String text) throws Exception {
+		Handler handler = exact.get(text);
+		if (handler != null) {
+			handler.handle(new BotCommandArgs(update, chatId, text, text.length(), NO_ITEM));
+			return;
+		}
+
+		int wordEnd = 0;
+		while (wordEnd < text.length() && !Character.isWhitespace(text.charAt(wordEnd))) {
+			wordEnd++;
+		}
+		if (wordEnd < text.length()) {
+			handler = commands.get(text.substring(0, wordEnd));
+		} else {
+			handler = commands.get(text);
+		}
+		if (handler != null) {
+			handler.handle(new BotCommandArgs(update, chatId, text, wordEnd, NO_ITEM));
+			return;
+		}
+
+		long itemId = 0;
+		int i = 0;
+		// At most 18 digits, so the id cannot overflow
+		for (; i < text.length() && i < 18 && text.charAt(i) >= '0' && text.charAt(i) <= '9'; i++) {
+			itemId = itemId * 10 + (text.charAt(i) - '0');
+		}
+		String dash = BotLabels.DASH.getLabel();
+		if (i > 0 && text.startsWith(dash, i)) {
+			handler = itemActions.get(text.substring(i + dash.length()));
+			if (handler != null) {
+				handler.handle(new BotCommandArgs(update, chatId, text, text.length(), itemId));
+				return;
+			}
+		}
+
+		fallback.handle(new BotCommandArgs(update, chatId, text, 0, NO_ITEM));
+	}
+}
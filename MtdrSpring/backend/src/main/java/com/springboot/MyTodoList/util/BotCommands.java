@@ -5,7 +5,10 @@ public enum BotCommands {
 	START_COMMAND("/start"), 
 	HIDE_COMMAND("/hide"), 
 	TODO_LIST("/todolist"),
-	ADD_ITEM("/additem");
+	ADD_ITEM("/additem"),
+	COMPLETE("/complete"),
+	CANCEL("/cancel"),
+	DISMISS("/dismiss");
 
 	private String command;
 
@@ -1,33 +1,41 @@
 package com.springboot.MyTodoList.util;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.replykeyboard.ReplyKeyboardRemove;
 
+import com.springboot.MyTodoList.service.TelegramDeliveryService;
+
 public class BotHelper {
 
 	private static final Logger logger = LoggerFactory.getLogger(BotHelper.class);
 
-	public static void sendMessageToTelegram(Long chatId, String text, TelegramLongPollingBot bot) {
+	public static void sendMessageToTelegram(Long chatId, String text, TelegramDeliveryService delivery) {
 
-		try {
-			// prepare message
-			SendMessage messageToTelegram = new SendMessage();
-			messageToTelegram.setChatId(chatId);
-			messageToTelegram.setText(text);
+		// prepare message
+		SendMessage messageToTelegram = new SendMessage();
+		messageToTelegram.setChatId(chatId);
+		messageToTelegram.setText(text);
 
-			// hide keyboard
-			ReplyKeyboardRemove keyboardMarkup = new ReplyKeyboardRemove(true);
-			messageToTelegram.setReplyMarkup(keyboardMarkup);
+		// hide keyboard
+		ReplyKeyboardRemove keyboardMarkup = new ReplyKeyboardRemove(true);
+		messageToTelegram.setReplyMarkup(keyboardMarkup);
 
-			// send message
-			bot.execute(messageToTelegram);
+		// send message
+		send(messageToTelegram, delivery);
+	}
 
-		} catch (Exception e) {
-			logger.error(e.getLocalizedMessage(), e);
-		}
+	// Queue the message on the outbound pipeline instead of calling Telegram on the update thread.
+	// Failures are logged when they happen; callers may add their own callbacks to the future.
+	public static CompletableFuture<Void> send(SendMessage message, TelegramDeliveryService delivery) {
+		return delivery.send(message).whenComplete((ignored, error) -> {
+			if (error != null) {
+				logger.error("Error sending message to chat " + message.getChatId() + ": " + error.getMessage());
+			}
+		});
 	}
 
 }
@@ -12,7 +12,11 @@ public enum BotLabels {
 	MY_TODO_LIST("MY TODO LIST"),
 	DASH("-"),
 	MY_ASSIGNED_ISSUES("/MyAssignedIssues"),
-	COMPLETE_ISSUE("/CompleteIssue");
+	COMPLETE_ISSUE("/CompleteIssue"),
+	MORE_ASSIGNED_ISSUES("/MoreIssues"),
+	PREVIOUS_PAGE("<< Previous"),
+	NEXT_PAGE("Next >>"),
+	MY_ALERTS("/MyAlerts");
 
 	private String label;
 
@@ -10,6 +10,7 @@ public enum BotMessages {
 	ITEM_DELETED("Item deleted! Select /todolist to return to the list of todo items, or /start to go to the main screen."),
 	TYPE_NEW_TODO_ITEM("Type a new todo item below and press the send button (blue arrow) on the rigth-hand side."),
 	NEW_ITEM_ADDED("New item added! Select /todolist to return to the list of todo items, or /start to go to the main screen."),
+	INVALID_ID("Invalid id"),
 	BYE("Bye! Select /start to resume!");
 
 	private String message;
@@ -0,0 +1,44 @@
+package com.springboot.MyTodoList.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    Where a chat is in a multi-step bot flow, e.g. COMPLETE_ISSUE waiting for
+    HOURS, plus the answers collected so far.
+ */
+public class ChatSession {
+
+	private final String flow;
+	private String step;
+	private final Map<String, String> data = new HashMap<>();
+
+	public ChatSession(String flow, String step) {
+		this.flow = flow;
+		this.step = step;
+	}
+
+	public String getFlow() {
+		return flow;
+	}
+
+	public synchronized String getStep() {
+		return step;
+	}
+
+	public synchronized void setStep(String step) {
+		this.step = step;
+	}
+
+	public synchronized String get(String key) {
+		return data.get(key);
+	}
+
+	public synchronized void put(String key, String value) {
+		data.put(key, value);
+	}
+
+	public synchronized Map<String, String> copyData() {
+		return new HashMap<>(data);
+	}
+}
@@ -0,0 +1,54 @@
+package com.springboot.MyTodoList.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+	Open and closed issue counts, estimation and hours worked of a group of
+	issues, updated concurrently by deltas. Each counter is a LongAdder, so
+	threads updating the same group do not contend on one memory location;
+	reads sum the cells and are not atomic across the four values. Closed
+	means status 1.
+ */
+public class IssueCounters {
+
+	private final LongAdder openIssues = new LongAdder();
+	private final LongAdder closedIssues = new LongAdder();
+	private final LongAdder estimation = new LongAdder();
+	private final LongAdder hoursWorked = new LongAdder();
+
+	// Count issues with the given status and totals in (sign 1) or out (sign -1) of the group
+	public void add(Integer status, long issues, Long estimation, Long hoursWorked, int sign) {
+		if (status != null && status == 1) {
+			closedIssues.add(sign * issues);
+		} else {
+			openIssues.add(sign * issues);
+		}
+		if (estimation != null) {
+			this.estimation.add(sign * estimation);
+		}
+		if (hoursWorked != null) {
+			this.hoursWorked.add(sign * hoursWorked);
+		}
+	}
+
+	public long getOpenIssues() {
+		return openIssues.sum();
+	}
+
+	public long getClosedIssues() {
+		return closedIssues.sum();
+	}
+
+	public long getEstimation() {
+		return estimation.sum();
+	}
+
+	public long getHoursWorked() {
+		return hoursWorked.sum();
+	}
+
+	public boolean sameTotals(IssueCounters other) {
+		return getOpenIssues() == other.getOpenIssues() && getClosedIssues() == other.getClosedIssues()
+				&& getEstimation() == other.getEstimation() && getHoursWorked() == other.getHoursWorked();
+	}
+}
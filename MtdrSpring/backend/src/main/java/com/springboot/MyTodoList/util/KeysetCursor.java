@@ -0,0 +1,46 @@
+package com.springboot.MyTodoList.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/*
+    Opaque cursor for keyset pagination: the sort key and id of the last row
+    of a page, which the next request seeks past.
+ */
+public class KeysetCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final String sortKey;
+	private final Long id;
+
+	public KeysetCursor(String sortKey, Long id) {
+		this.sortKey = sortKey;
+		this.id = id;
+	}
+
+	public String getSortKey() {
+		return sortKey;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String encode() {
+		String raw = (sortKey == null ? "" : sortKey) + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static KeysetCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			String sortKey = raw.substring(0, separator);
+			return new KeysetCursor(sortKey.isEmpty() ? null : sortKey, Long.valueOf(raw.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+		}
+	}
+
+}
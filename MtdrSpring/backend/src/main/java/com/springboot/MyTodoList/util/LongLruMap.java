@@ -0,0 +1,200 @@
+package com.springboot.MyTodoList.util;
+
+/*
+    Fixed-capacity map from primitive long keys to values, with an expiry
+    time per entry and least-recently-used eviction once full. Keys are
+    never boxed: they live in an open-addressing table (linear probing,
+    backward-shift deletion) that points into preallocated entry arrays,
+    which also hold the LRU list.
+ */
+public class LongLruMap<V> {
+
+	@FunctionalInterface
+	public interface EntryVisitor<V> {
+		void visit(long key, V value, long expiresAt);
+	}
+
+	private static final int NONE = -1;
+
+	private final int capacity;
+	// Entry index + 1 per slot, 0 for an empty slot
+	private final int[] table;
+	private final int mask;
+
+	private final long[] keys;
+	private final Object[] values;
+	private final long[] expiresAt;
+	// LRU list from head (least recently used) to tail; next also chains the free entries
+	private final int[] prev;
+	private final int[] next;
+	private int head = NONE;
+	private int tail = NONE;
+	private int free;
+	private int size;
+
+	public LongLruMap(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("capacity must be positive");
+		}
+		this.capacity = capacity;
+		int tableSize = 2;
+		while (tableSize < capacity * 2) {
+			tableSize <<= 1;
+		}
+		table = new int[tableSize];
+		mask = tableSize - 1;
+		keys = new long[capacity];
+		values = new Object[capacity];
+		expiresAt = new long[capacity];
+		prev = new int[capacity];
+		next = new int[capacity];
+		for (int i = 0; i < capacity; i++) {
+			next[i] = i + 1 < capacity ? i + 1 : NONE;
+		}
+		free = 0;
+	}
+
+	// The value of the key, or null if there is none or it expired before now. Marks the entry as used.
+	@SuppressWarnings("unchecked")
+	public synchronized V get(long key, long now) {
+		int slot = find(key);
+		if (slot < 0) {
+			return null;
+		}
+		int entry = table[slot] - 1;
+		if (expiresAt[entry] <= now) {
+			removeSlot(slot);
+			return null;
+		}
+		moveToTail(entry);
+		return (V) values[entry];
+	}
+
+	// Add or replace the value of the key, evicting the least recently used entry when full
+	public synchronized void put(long key, V value, long expiresAt) {
+		int slot = find(key);
+		if (slot >= 0) {
+			int entry = table[slot] - 1;
+			values[entry] = value;
+			this.expiresAt[entry] = expiresAt;
+			moveToTail(entry);
+			return;
+		}
+		if (size == capacity) {
+			removeSlot(find(keys[head]));
+		}
+		int entry = free;
+		free = next[entry];
+		keys[entry] = key;
+		values[entry] = value;
+		this.expiresAt[entry] = expiresAt;
+		linkTail(entry);
+		slot = home(key);
+		while (table[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		table[slot] = entry + 1;
+		size++;
+	}
+
+	public synchronized void remove(long key) {
+		int slot = find(key);
+		if (slot >= 0) {
+			removeSlot(slot);
+		}
+	}
+
+	// Drop every entry that expired before now; returns how many were dropped
+	public synchronized int removeExpired(long now) {
+		int removed = 0;
+		int entry = head;
+		while (entry != NONE) {
+			int following = next[entry];
+			if (expiresAt[entry] <= now) {
+				removeSlot(find(keys[entry]));
+				removed++;
+			}
+			entry = following;
+		}
+		return removed;
+	}
+
+	// Visit the entries from least to most recently used
+	@SuppressWarnings("unchecked")
+	public synchronized void forEach(EntryVisitor<V> visitor) {
+		for (int entry = head; entry != NONE; entry = next[entry]) {
+			visitor.visit(keys[entry], (V) values[entry], expiresAt[entry]);
+		}
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private int home(long key) {
+		key ^= key >>> 33;
+		key *= 0xff51afd7ed558ccdL;
+		key ^= key >>> 33;
+		return (int) key & mask;
+	}
+
+	private int find(long key) {
+		for (int slot = home(key); table[slot] != 0; slot = (slot + 1) & mask) {
+			if (keys[table[slot] - 1] == key) {
+				return slot;
+			}
+		}
+		return NONE;
+	}
+
+	private void removeSlot(int slot) {
+		int entry = table[slot] - 1;
+		unlink(entry);
+		values[entry] = null;
+		next[entry] = free;
+		free = entry;
+		size--;
+
+		// Shift later entries of the probe run back so lookups never stop at the hole
+		int hole = slot;
+		for (int current = (slot + 1) & mask; table[current] != 0; current = (current + 1) & mask) {
+			int home = home(keys[table[current] - 1]);
+			if (((current - home) & mask) >= ((current - hole) & mask)) {
+				table[hole] = table[current];
+				hole = current;
+			}
+		}
+		table[hole] = 0;
+	}
+
+	private void moveToTail(int entry) {
+		if (entry != tail) {
+			unlink(entry);
+			linkTail(entry);
+		}
+	}
+
+	private void linkTail(int entry) {
+		prev[entry] = tail;
+		next[entry] = NONE;
+		if (tail != NONE) {
+			next[tail] = entry;
+		} else {
+			head = entry;
+		}
+		tail = entry;
+	}
+
+	private void unlink(int entry) {
+		if (prev[entry] != NONE) {
+			next[prev[entry]] = next[entry];
+		} else {
+			head = next[entry];
+		}
+		if (next[entry] != NONE) {
+			prev[next[entry]] = prev[entry];
+		} else {
+			tail = prev[entry];
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.springboot.MyTodoList.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    Size-bounded cache that evicts the least recently used entry once full.
+ */
+public class LruCache<K, V> {
+
+	private final Map<K, V> entries;
+
+	public LruCache(int maxSize) {
+		this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, value);
+	}
+
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+}
@@ -0,0 +1,50 @@
+package com.springboot.MyTodoList.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    Collects message text entry by entry and starts a new message whenever
+    the next entry would push the current one over Telegram's length limit.
+ */
+public class MessageChunker {
+
+	private final int maxLength;
+	private final List<String> messages = new ArrayList<>();
+	private final StringBuilder current = new StringBuilder();
+
+	public MessageChunker() {
+		this(AlertMessages.MAX_MESSAGE_LENGTH);
+	}
+
+	public MessageChunker(int maxLength) {
+		this.maxLength = maxLength;
+	}
+
+	public MessageChunker append(String entry) {
+		if (current.length() + entry.length() > maxLength && current.length() > 0) {
+			flush();
+		}
+		// A single entry longer than the limit is cut into pieces
+		while (entry.length() > maxLength) {
+			messages.add(entry.substring(0, maxLength));
+			entry = entry.substring(maxLength);
+		}
+		current.append(entry);
+		return this;
+	}
+
+	// The messages, without leading or trailing blank lines
+	public List<String> finish() {
+		flush();
+		return messages;
+	}
+
+	private void flush() {
+		String message = current.toString().trim();
+		if (message.length() > 0) {
+			messages.add(message);
+		}
+		current.setLength(0);
+	}
+}
@@ -0,0 +1,47 @@
+package com.springboot.MyTodoList.util;
+
+/*
+    Classic token bucket: holds up to capacity tokens and refills at a fixed
+    rate. Callers never block here; they get back how long to wait instead.
+ */
+public class TokenBucket {
+
+	private final double capacity;
+	private final double tokensPerNano;
+	private double tokens;
+	private long lastRefill;
+
+	public TokenBucket(double capacity, double tokensPerSecond) {
+		this.capacity = capacity;
+		this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	// Nanoseconds until a token is available, 0 if one is available now
+	public synchronized long nanosUntilAvailable() {
+		refill();
+		return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+	}
+
+	public synchronized boolean tryConsume() {
+		refill();
+		if (tokens >= 1) {
+			tokens -= 1;
+			return true;
+		}
+		return false;
+	}
+
+	// True when the bucket has been idle long enough to refill completely
+	public synchronized boolean isFull() {
+		refill();
+		return tokens >= capacity;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+	}
+}
@@ -0,0 +1,89 @@
+-- Schema changes applied on top of the existing TODOUSER tables.
+-- Run as TODOUSER; new changes are appended at the end of this file.
+
+-- Alert leases: lets several backend replicas split alert dispatching
+ALTER TABLE ALERT ADD (LEASE_OWNER VARCHAR2(100), LEASE_EXPIRES_AT TIMESTAMP WITH TIME ZONE);
+CREATE INDEX ALERT_STATUS_SCHEDULED_IDX ON ALERT (STATUS, SCHEDULED_TIME);
+
+-- Alert delivery ledger: retries with backoff, FAILED/DEAD states and idempotent creation
+ALTER TABLE ALERT ADD (ATTEMPT_COUNT NUMBER DEFAULT 0, NEXT_ATTEMPT_AT TIMESTAMP WITH TIME ZONE,
+    LAST_ERROR VARCHAR2(1000), IDEMPOTENCY_KEY VARCHAR2(100));
+CREATE UNIQUE INDEX ALERT_IDEMPOTENCY_KEY_UX ON ALERT (IDEMPOTENCY_KEY);
+CREATE INDEX ALERT_STATUS_NEXT_ATTEMPT_IDX ON ALERT (STATUS, NEXT_ATTEMPT_AT);
+
+-- Keyset pagination of GET /alerts: every filter seeks on (SCHEDULED_TIME, ID)
+CREATE INDEX ALERT_SCHEDULED_ID_IDX ON ALERT (SCHEDULED_TIME, ID);
+CREATE INDEX ALERT_USER_SCHEDULED_IDX ON ALERT (USER_ID, SCHEDULED_TIME, ID);
+CREATE INDEX ALERT_PRIORITY_SCHEDULED_IDX ON ALERT (PRIORITY, SCHEDULED_TIME, ID);
+CREATE INDEX ALERT_TASK_STATUS_IDX ON ALERT (TASK_ID, STATUS);
+
+-- Alert archive: SENT/CANCELLED alerts past alerts.archive.retention-days are moved here by AlertArchiver.
+-- Monthly interval partitions on ARCHIVED_AT, so old months are dropped whole instead of deleted row by row, e.g.
+--   ALTER TABLE ALERT_ARCHIVE DROP PARTITION FOR (TIMESTAMP '2025-01-15 00:00:00') UPDATE INDEXES;
+CREATE TABLE ALERT_ARCHIVE
+    PARTITION BY RANGE (ARCHIVED_AT) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+    (PARTITION ALERT_ARCHIVE_P0 VALUES LESS THAN (TIMESTAMP '2025-01-01 00:00:00'))
+AS SELECT ID, MESSAGE, TASK_ID, TASK, PROJECT_ID, USER_ID, PRIORITY, SCHEDULED_TIME, STATUS,
+          ATTEMPT_COUNT, LAST_ERROR, IDEMPOTENCY_KEY, CAST(NULL AS TIMESTAMP) ARCHIVED_AT
+   FROM ALERT WHERE 1 = 0;
+ALTER TABLE ALERT_ARCHIVE MODIFY (ARCHIVED_AT NOT NULL);
+ALTER TABLE ALERT_ARCHIVE ADD CONSTRAINT ALERT_ARCHIVE_PK PRIMARY KEY (ID);
+CREATE INDEX ALERT_ARCHIVE_SCHEDULED_IDX ON ALERT_ARCHIVE (SCHEDULED_TIME, ID) LOCAL;
+CREATE INDEX ALERT_ARCHIVE_USER_IDX ON ALERT_ARCHIVE (USER_ID, SCHEDULED_TIME, ID) LOCAL;
+CREATE INDEX ALERT_ARCHIVE_TASK_IDX ON ALERT_ARCHIVE (TASK_ID) LOCAL;
+
+-- Issue due-date reminders: startup backfill of open issues by due date
+CREATE INDEX ISSUE_DUE_DATE_STATUS_IDX ON ISSUE (DUE_DATE, STATUS);
+
+-- Paged todo list keyboard: active items first, by ID
+CREATE INDEX TODOITEM_DONE_ID_IDX ON TODOITEM (DONE, ID);
+
+-- Open issues of an assignee by due date, for the bots' /MyAssignedIssues
+CREATE INDEX ISSUE_ASSIGNEE_STATUS_DUE_IDX ON ISSUE (ASSIGNEE, STATUS, DUE_DATE, ISSUE_ID);
+
+-- Keyset pagination of GET /issues on (DUE_DATE, ISSUE_ID), unfiltered and by sprint or assignee
+CREATE INDEX ISSUE_DUE_ID_IDX ON ISSUE (DUE_DATE, ISSUE_ID);
+CREATE INDEX ISSUE_SPRINT_DUE_IDX ON ISSUE (ID_SPRINT, DUE_DATE, ISSUE_ID);
+CREATE INDEX ISSUE_ASSIGNEE_DUE_IDX ON ISSUE (ASSIGNEE, DUE_DATE, ISSUE_ID);
+
+-- Sprint metrics and velocity: aggregates read from the index alone
+CREATE INDEX ISSUE_SPRINT_METRICS_IDX ON ISSUE (ID_SPRINT, ASSIGNEE, STATUS, ESTIMATION, HOURS_WORKED);
+
+-- Issue change log: append-only, written in batches by IssueEventLog. The INSERT seeds it with the
+-- current state of every issue so that sprint totals add up from the first day of the log.
+CREATE SEQUENCE ISSUE_EVENT_SEQ INCREMENT BY 50;
+CREATE TABLE ISSUE_EVENT (
+    ID NUMBER PRIMARY KEY,
+    ISSUE_ID NUMBER NOT NULL,
+    EVENT_TYPE VARCHAR2(20) NOT NULL,
+    EVENT_TIME TIMESTAMP WITH TIME ZONE NOT NULL,
+    ID_SPRINT_BEFORE NUMBER,
+    ID_SPRINT_AFTER NUMBER,
+    ASSIGNEE_BEFORE NUMBER,
+    ASSIGNEE_AFTER NUMBER,
+    STATUS_BEFORE NUMBER,
+    STATUS_AFTER NUMBER,
+    ESTIMATION_BEFORE NUMBER,
+    ESTIMATION_AFTER NUMBER,
+    HOURS_WORKED_BEFORE NUMBER,
+    HOURS_WORKED_AFTER NUMBER
+);
+CREATE INDEX ISSUE_EVENT_TIME_IDX ON ISSUE_EVENT (EVENT_TIME);
+CREATE INDEX ISSUE_EVENT_ISSUE_IDX ON ISSUE_EVENT (ISSUE_ID, EVENT_TIME);
+INSERT INTO ISSUE_EVENT (ID, ISSUE_ID, EVENT_TYPE, EVENT_TIME, ID_SPRINT_AFTER, ASSIGNEE_AFTER, STATUS_AFTER,
+                         ESTIMATION_AFTER, HOURS_WORKED_AFTER)
+    SELECT ISSUE_EVENT_SEQ.NEXTVAL, ISSUE_ID, 'SNAPSHOT', SYSTIMESTAMP, ID_SPRINT, ASSIGNEE, STATUS, ESTIMATION, HOURS_WORKED
+    FROM ISSUE;
+COMMIT;
+
+-- Daily per-sprint rollup of ISSUE_EVENT, rebuilt for recent days by SprintBurndownService
+CREATE TABLE ISSUE_SPRINT_DAY (
+    ID_SPRINT NUMBER NOT NULL,
+    EVENT_DAY DATE NOT NULL,
+    ISSUES_DELTA NUMBER NOT NULL,
+    OPEN_ISSUES_DELTA NUMBER NOT NULL,
+    REMAINING_ESTIMATION_DELTA NUMBER NOT NULL,
+    HOURS_WORKED_DELTA NUMBER NOT NULL,
+    CONSTRAINT ISSUE_SPRINT_DAY_PK PRIMARY KEY (ID_SPRINT, EVENT_DAY)
+);
+CREATE INDEX ISSUE_SPRINT_DAY_DAY_IDX ON ISSUE_SPRINT_DAY (EVENT_DAY);